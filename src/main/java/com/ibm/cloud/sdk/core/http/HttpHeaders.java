@@ -104,6 +104,12 @@ public interface HttpHeaders {
    */
   String HOST = "Host";
 
+  /**
+   * See <a href="https://datatracker.ietf.org/doc/draft-ietf-httpapi-idempotency-key-header/">The Idempotency-Key
+   * HTTP Header Field</a>.
+   */
+  String IDEMPOTENCY_KEY = "Idempotency-Key";
+
   /**
    * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.24">HTTP/1.1 documentation</a>.
    */
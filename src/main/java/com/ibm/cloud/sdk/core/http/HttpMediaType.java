@@ -38,6 +38,10 @@ public final class HttpMediaType {
    * Field APPLICATION_JSON. (value is "application/json")
    */
   public static final String APPLICATION_JSON = "application/json";
+  /**
+   * Field APPLICATION_NDJSON. (value is "application/x-ndjson")
+   */
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
   /**
    * Field APPLICATION_MS_WORD. (value is "application/msword")
    */
@@ -178,6 +182,11 @@ public final class HttpMediaType {
    */
   public static final String TEXT_CSV = "text/csv";
 
+  /**
+   * Field TEXT_EVENT_STREAM. (value is "text/event-stream")
+   */
+  public static final String TEXT_EVENT_STREAM = "text/event-stream";
+
   /**
    * Field TEXT_HTML. (value is "text/html")
    */
@@ -0,0 +1,175 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+
+/**
+ * RequestBody that serializes an object to JSON.
+ * <p>
+ * The object is serialized with a {@link JsonWriter} from the SDK's shared Gson instance, without an intermediate
+ * String copy of the body.  When the content length is requested (as it is before the request is sent),
+ * the object is serialized into a buffer so that the request can be sent with a Content-Length header,
+ * as with any other sized request body.  The buffered bytes are then written each time the body is written
+ * (e.g. when a request is retried).
+ * <p>
+ * If the serialized object turns out to be larger than {@link #STREAMING_THRESHOLD} bytes, it is not buffered.
+ * Instead, the content length is reported as unknown (-1), which causes the request to be sent with
+ * "Transfer-Encoding: chunked", and the object is serialized directly into the request's sink each time the body
+ * is written.  In that case the object should not be modified until the request has completed.
+ */
+public class JsonRequestBody extends RequestBody {
+
+  /**
+   * The size (in bytes) above which a serialized object is streamed with chunked transfer encoding rather than
+   * being buffered and sent with a Content-Length header.
+   */
+  public static final long STREAMING_THRESHOLD = 1024 * 1024;
+
+  private final Object content;
+  private final MediaType mediaType;
+  private final Charset charset;
+
+  // The serialized object, or null if it has not been serialized yet or is too large to be buffered.
+  private Buffer buffered;
+  private boolean streaming;
+
+  /**
+   * Creates a {@link RequestBody} that serializes "content" to JSON using the SDK's default Gson instance.
+   * As with {@link RequestBody#create(MediaType, String)}, a charset of UTF-8 is added to the media type
+   * if it doesn't specify one.
+   *
+   * @param mediaType the media type
+   * @param content the object to be serialized
+   * @return the request body
+   */
+  public static RequestBody create(final MediaType mediaType, final Object content) {
+    return new JsonRequestBody(mediaType, content);
+  }
+
+  private JsonRequestBody(MediaType mediaType, Object content) {
+    Charset cs = StandardCharsets.UTF_8;
+    MediaType mt = mediaType;
+    if (mt != null) {
+      Charset requested = mt.charset();
+      if (requested == null) {
+        mt = MediaType.parse(mt + "; charset=utf-8");
+      } else {
+        cs = requested;
+      }
+    }
+    this.mediaType = mt;
+    this.charset = cs;
+    this.content = content;
+  }
+
+  @Override
+  public MediaType contentType() {
+    return mediaType;
+  }
+
+  @Override
+  public long contentLength() throws IOException {
+    Buffer buffer = getBuffered();
+    return buffer != null ? buffer.size() : -1;
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    Buffer buffer = getBuffered();
+    if (buffer != null) {
+      // Write a copy so that the buffered bytes can be written again; the copy shares the buffer's segments.
+      sink.write(buffer.copy(), buffer.size());
+    } else {
+      serialize(sink);
+    }
+  }
+
+  /**
+   * Returns the serialized object, serializing it on the first call.
+   *
+   * @return the buffer containing the serialized object, or null if it is larger than the streaming threshold
+   * @throws IOException if the object could not be serialized
+   */
+  private synchronized Buffer getBuffered() throws IOException {
+    if (buffered == null && !streaming) {
+      final Buffer buffer = new Buffer();
+      BufferedSink limitedSink = Okio.buffer(new ForwardingSink(buffer) {
+        @Override
+        public void write(Buffer source, long byteCount) throws IOException {
+          if (buffer.size() + byteCount > STREAMING_THRESHOLD) {
+            throw new ThresholdExceededException();
+          }
+          super.write(source, byteCount);
+        }
+      });
+      try {
+        serialize(limitedSink);
+        limitedSink.flush();
+        buffered = buffer;
+      } catch (ThresholdExceededException e) {
+        startStreaming(buffer);
+      } catch (JsonIOException e) {
+        // Gson wraps the IOExceptions thrown by the writer.
+        if (!(e.getCause() instanceof ThresholdExceededException)) {
+          throw e;
+        }
+        startStreaming(buffer);
+      }
+    }
+    return buffered;
+  }
+
+  private void startStreaming(Buffer buffer) {
+    buffer.clear();
+    streaming = true;
+  }
+
+  private void serialize(BufferedSink sink) throws IOException {
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+    // Don't close the writer; the sink is owned by the caller.
+    Writer writer = new OutputStreamWriter(sink.outputStream(), charset);
+    JsonWriter jsonWriter = gson.newJsonWriter(writer);
+    if (content == null) {
+      jsonWriter.nullValue();
+    } else {
+      gson.toJson(content, content.getClass(), jsonWriter);
+    }
+    jsonWriter.flush();
+  }
+
+  /**
+   * Thrown while buffering a serialized object that turns out to be larger than the streaming threshold.
+   */
+  private static class ThresholdExceededException extends IOException {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -0,0 +1,171 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import io.reactivex.functions.BiConsumer;
+import io.reactivex.functions.Consumer;
+import okio.BufferedSource;
+
+/**
+ * Incrementally parses a newline-delimited JSON ("application/x-ndjson") body into a sequence of values.
+ * <p>
+ * Each line of the body is deserialized into the requested type as the caller iterates, so only one record
+ * is held in memory at a time regardless of the size of the body. Blank lines are ignored.
+ * The reader closes the underlying source once the stream is exhausted; callers that stop iterating early
+ * must call {@link #close()} to release the connection.
+ *
+ * @param <T> the type of each record
+ */
+public class NdJsonReader<T> implements Iterator<T>, Closeable {
+  private static final Logger LOG = Logger.getLogger(NdJsonReader.class.getName());
+  private static final String ERROR_MESSAGE = "Error reading the newline-delimited JSON stream";
+
+  private final BufferedSource source;
+  private final Type type;
+  private final Gson gson;
+
+  private T nextRecord;
+  private boolean hasNextRecord;
+  private boolean closed;
+
+  /**
+   * Instantiates a reader that deserializes each line into the specified type.
+   *
+   * @param source the newline-delimited JSON stream
+   * @param type the type of each record
+   */
+  public NdJsonReader(BufferedSource source, Type type) {
+    if (source == null) {
+      throw new IllegalArgumentException("source cannot be null");
+    }
+    if (type == null) {
+      throw new IllegalArgumentException("type cannot be null");
+    }
+    this.source = source;
+    this.type = type;
+    this.gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+  }
+
+  /**
+   * Returns true if another record is available, blocking until it has been received or the stream ends.
+   *
+   * @return true if {@link #next()} will return a record
+   */
+  @Override
+  public boolean hasNext() {
+    if (!hasNextRecord && !closed) {
+      try {
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+          if (!line.trim().isEmpty()) {
+            nextRecord = gson.fromJson(line, type);
+            hasNextRecord = true;
+            break;
+          }
+        }
+      } catch (IOException e) {
+        closeQuietly();
+        LOG.log(Level.SEVERE, ERROR_MESSAGE, e);
+        throw new RuntimeException(ERROR_MESSAGE, e);
+      } catch (RuntimeException e) {
+        closeQuietly();
+        throw e;
+      }
+      if (!hasNextRecord) {
+        closeQuietly();
+      }
+    }
+    return hasNextRecord;
+  }
+
+  /**
+   * Returns the next record, blocking until it has been received.
+   *
+   * @return the next record (null if the line contained a JSON null)
+   */
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T record = nextRecord;
+    nextRecord = null;
+    hasNextRecord = false;
+    return record;
+  }
+
+  /**
+   * Returns a Flowable that emits the remaining records of this reader.
+   * Records are read from the underlying source only as they are requested by the subscriber,
+   * and the reader is closed when the Flowable terminates or its subscription is cancelled.
+   * Note that RxJava does not permit null values, so a JSON null record terminates the Flowable with an error.
+   *
+   * @return the Flowable
+   */
+  public Flowable<T> toFlowable() {
+    return Flowable.generate(new Callable<NdJsonReader<T>>() {
+      @Override
+      public NdJsonReader<T> call() {
+        return NdJsonReader.this;
+      }
+    }, new BiConsumer<NdJsonReader<T>, Emitter<T>>() {
+      @Override
+      public void accept(NdJsonReader<T> reader, Emitter<T> emitter) {
+        if (reader.hasNext()) {
+          emitter.onNext(reader.next());
+        } else {
+          emitter.onComplete();
+        }
+      }
+    }, new Consumer<NdJsonReader<T>>() {
+      @Override
+      public void accept(NdJsonReader<T> reader) {
+        reader.closeQuietly();
+      }
+    });
+  }
+
+  /**
+   * Closes the underlying stream. Further calls to {@link #hasNext()} will return false.
+   */
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      source.close();
+    }
+  }
+
+  private void closeQuietly() {
+    try {
+      close();
+    } catch (IOException e) {
+      LOG.log(Level.FINE, "Error closing the newline-delimited JSON stream", e);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.google.gson.Gson;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * RequestBody that streams a sequence of records as newline-delimited JSON ("application/x-ndjson").
+ * <p>
+ * Each record is serialized directly into the request's sink as the body is written, so the body is never
+ * materialized in memory. A body created from an {@link Iterable} can be written more than once (e.g. when a
+ * request is retried); a body created from an {@link Iterator} is one-shot.
+ */
+public class NdJsonRequestBody extends RequestBody {
+  private static final MediaType NDJSON = MediaType.parse(HttpMediaType.APPLICATION_NDJSON);
+
+  private final Iterable<?> records;
+  private final Iterator<?> iterator;
+  private final MediaType mediaType;
+
+  /**
+   * Creates a {@link RequestBody} from an {@link Iterable} of records.
+   *
+   * @param records the records to serialize, one per line
+   * @return the request body
+   */
+  public static RequestBody create(final Iterable<?> records) {
+    return create(NDJSON, records);
+  }
+
+  /**
+   * Creates a {@link RequestBody} from an {@link Iterable} of records.
+   *
+   * @param mediaType the media type
+   * @param records the records to serialize, one per line
+   * @return the request body
+   */
+  public static RequestBody create(final MediaType mediaType, final Iterable<?> records) {
+    if (records == null) {
+      throw new IllegalArgumentException("records cannot be null");
+    }
+    return new NdJsonRequestBody(mediaType, records, null);
+  }
+
+  /**
+   * Creates a one-shot {@link RequestBody} from an {@link Iterator} of records.
+   *
+   * @param mediaType the media type
+   * @param records the records to serialize, one per line
+   * @return the request body
+   */
+  public static RequestBody create(final MediaType mediaType, final Iterator<?> records) {
+    if (records == null) {
+      throw new IllegalArgumentException("records cannot be null");
+    }
+    return new NdJsonRequestBody(mediaType, null, records);
+  }
+
+  private NdJsonRequestBody(MediaType mediaType, Iterable<?> records, Iterator<?> iterator) {
+    this.mediaType = mediaType;
+    this.records = records;
+    this.iterator = iterator;
+  }
+
+  @Override
+  public MediaType contentType() {
+    return mediaType;
+  }
+
+  @Override
+  public boolean isOneShot() {
+    return iterator != null;
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    Iterator<?> it = iterator != null ? iterator : records.iterator();
+
+    // Don't close the writer; the sink is owned by the caller.
+    Writer writer = new OutputStreamWriter(sink.outputStream(), StandardCharsets.UTF_8);
+    while (it.hasNext()) {
+      gson.toJson(it.next(), writer);
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+}
@@ -18,9 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
-import com.ibm.cloud.sdk.core.util.GsonSingleton;
 import com.ibm.cloud.sdk.core.util.StringHelper;
 import com.ibm.cloud.sdk.core.util.Validator;
 
@@ -227,6 +225,7 @@ public class RequestBuilder {
   private final List<NameValue> headers = new ArrayList<NameValue>();
   private final HTTPMethod method;
   private final List<NameValue> queryParams = new ArrayList<NameValue>();
+  private RetryPolicy retryPolicy;
 
   /**
    * Instantiates a new request.
@@ -322,6 +321,10 @@ public class RequestBuilder {
       builder.header(header.getName(), header.getValue());
     }
 
+    if (retryPolicy != null) {
+      builder.tag(RetryPolicy.class, retryPolicy);
+    }
+
     return builder.build();
   }
 
@@ -424,11 +427,11 @@ public class RequestBuilder {
   public RequestBuilder bodyContent(String contentType, Object jsonContent, Object jsonPatchContent,
     InputStream nonJsonContent) {
     if (contentType != null) {
-      Gson requestGson = GsonSingleton.getGsonWithoutPrettyPrinting().newBuilder().create();
+      // Model content is serialized lazily, straight into the request sink.
       if (jsonContent != null) {
-        this.bodyContent(requestGson.toJson(jsonContent), contentType);
+        this.body(JsonRequestBody.create(MediaType.parse(contentType), jsonContent));
       } else if (jsonPatchContent != null) {
-        this.bodyContent(requestGson.toJson(jsonPatchContent), contentType);
+        this.body(JsonRequestBody.create(MediaType.parse(contentType), jsonPatchContent));
       } else {
         this.bodyContent(nonJsonContent, contentType);
       }
@@ -465,6 +468,18 @@ public class RequestBuilder {
     return bodyContent(contentType, jsonContent, jsonPatchContent, nonJson);
   }
 
+  /**
+   * Sets the request body to a stream of newline-delimited JSON records (used with POST/PUT). Each record is
+   * serialized as the request is sent, so arbitrarily large collections can be uploaded with constant memory.
+   *
+   * @param records the records to serialize, one per line
+   * @param contentType the HTTP contentType to use (e.g. "application/x-ndjson")
+   * @return this
+   */
+  public RequestBuilder bodyNdJson(Iterable<?> records, String contentType) {
+    return body(NdJsonRequestBody.create(MediaType.parse(contentType), records));
+  }
+
   /**
    * Adds a JSON content to the request (used with POST/PUT). This will encapsulate the json into a
    * {@link RequestBody} encoded with UTF-8 and use {@code "application/json"} as Content-Type
@@ -522,4 +537,15 @@ public class RequestBuilder {
   public RequestBuilder query(Object... args) {
     return with(queryParams, args);
   }
+
+  /**
+   * Sets the retry policy to be used for this request in place of the client's retry configuration.
+   *
+   * @param retryPolicy the retry policy
+   * @return this
+   */
+  public RequestBuilder retryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
 }
@@ -18,13 +18,24 @@ import okhttp3.Request;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.UnknownServiceException;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.net.ssl.SSLException;
+
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.util.DateUtils;
 
@@ -39,6 +50,10 @@ import org.apache.commons.lang3.StringUtils;
  * <li>the maximum retry interval (in seconds) to wait between retry attempts
  * <li>the {@link Authenticator} instance to use to authenticate each retry attempt
  * </ul>
+ * Requests that fail with a transient I/O error are also retried, provided that they are idempotent.
+ * A request may carry its own {@link RetryPolicy} (as a request tag), which then takes the place of these settings.
+ * If the call has a timeout (see {@link ServiceCall#withDeadline(java.time.Duration)}), a retry is not attempted
+ * unless it can be expected to complete before the call's deadline.
  */
 public class RetryInterceptor implements IRetryInterceptor {
   private static final Logger LOG = Logger.getLogger(RetryInterceptor.class.getName());
@@ -46,6 +61,10 @@ public class RetryInterceptor implements IRetryInterceptor {
   // The default "starting" retry interval in milliseconds.
   private static final int DEFAULT_RETRY_INTERVAL = 1000;
 
+  // Methods which can safely be repeated after an I/O failure (RFC 9110, section 9.2.2).
+  private static final Set<String> IDEMPOTENT_METHODS =
+      new HashSet<>(Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE"));
+
   private Authenticator authenticator;
   private int maxRetries;
   private int maxRetryInterval;
@@ -60,9 +79,9 @@ public class RetryInterceptor implements IRetryInterceptor {
       return this.retryCount;
     }
 
-    private boolean incCountAndCheck() {
+    private boolean incCountAndCheck(int max) {
       this.retryCount++;
-      return this.retryCount < maxRetries;
+      return this.retryCount < max;
     }
   }
 
@@ -98,12 +117,44 @@ public class RetryInterceptor implements IRetryInterceptor {
    */
   @Override
   public Response intercept(Interceptor.Chain chain) throws IOException {
+    // If the call has a timeout (e.g. a deadline set via ServiceCall.withDeadline()), then it spans all of
+    // our retry attempts, so compute the point in time at which the call will be cancelled.
+    long callTimeoutNanos = chain.call().timeout().timeoutNanos();
+    long deadline = callTimeoutNanos > 0 ? System.nanoTime() + callTimeoutNanos : 0;
+
+    // A per-request retry policy may further limit the total time spent on the request.
+    RetryPolicy policy = chain.request().tag(RetryPolicy.class);
+    if (policy != null && policy.getTotalTimeBudget() != null) {
+      long budgetDeadline = System.nanoTime() + policy.getTotalTimeBudget().toNanos();
+      if (deadline == 0 || budgetDeadline - deadline < 0) {
+        deadline = budgetDeadline;
+      }
+    }
+
     // Make the first request.
     Request request = chain.request();
-    Response response = chain.proceed(request);
-
-    while (shouldRetry(response, request)) {
-      int interval = getInterval(response, request);
+    long attemptStart = System.nanoTime();
+    Response response = null;
+    IOException failure = null;
+    try {
+      response = chain.proceed(request);
+    } catch (IOException e) {
+      failure = e;
+    }
+    long attemptNanos = System.nanoTime() - attemptStart;
+
+    while (failure != null
+        ? !chain.call().isCanceled() && shouldRetry(failure, request)
+        : shouldRetry(response, request)) {
+      int interval = failure != null ? getInterval(failure, request) : getInterval(response, request);
+
+      // Skip the retry if waiting for the retry interval and then repeating an attempt that takes as long
+      // as the previous one would not complete before the deadline.
+      if (deadline != 0
+          && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval) + attemptNanos - deadline > 0) {
+        LOG.log(Level.FINE, "No retry, the retry attempt could not complete before the request's deadline");
+        break;
+      }
 
       try {
         LOG.log(Level.FINE, "Will retry after {0} ms", interval);
@@ -125,11 +176,24 @@ public class RetryInterceptor implements IRetryInterceptor {
         authenticator.authenticate(builder);
       }
 
-      response.close();
+      if (response != null) {
+        response.close();
+      }
       request = builder.build();
-      response = chain.proceed(request);
+      attemptStart = System.nanoTime();
+      response = null;
+      failure = null;
+      try {
+        response = chain.proceed(request);
+      } catch (IOException e) {
+        failure = e;
+      }
+      attemptNanos = System.nanoTime() - attemptStart;
     }
 
+    if (failure != null) {
+      throw failure;
+    }
     return response;
   }
 
@@ -170,10 +234,10 @@ public class RetryInterceptor implements IRetryInterceptor {
     if (interval == null) {
       RetryContext context = request.tag(RetryContext.class);
       if (context != null) {
-        interval = calculateBackoff(context.getRetryCount());
+        interval = calculateBackoff(request, context.getRetryCount());
       } else {
         // There is no RetryContext tag in the request, which means this is the first retry.
-        interval = calculateBackoff(0);
+        interval = calculateBackoff(request, 0);
       }
     }
 
@@ -191,10 +255,13 @@ public class RetryInterceptor implements IRetryInterceptor {
         new Object[] { response.code(), request.method(), request.url().toString()});
 
     // First check the response.
-    if (response.code() == 429 || (response.code() >= 500 && response.code() <= 599 && response.code() != 501)) {
+    RetryPolicy policy = request.tag(RetryPolicy.class);
+    boolean retryable = policy != null
+        ? policy.isRetryableStatusCode(response.code())
+        : response.code() == 429 || (response.code() >= 500 && response.code() <= 599 && response.code() != 501);
+    if (retryable) {
       // Now check if we exhausted the max number of retries or not.
-      RetryContext context = request.tag(RetryContext.class);
-      if (context != null && !context.incCountAndCheck()) {
+      if (!checkRetryCount(request)) {
         LOG.log(Level.FINE, "No retry, maximum number of retries reached");
         return false;
       }
@@ -207,6 +274,99 @@ public class RetryInterceptor implements IRetryInterceptor {
     return false;
   }
 
+  /**
+   * Determine the retry interval to wait before retrying a request that failed with an I/O error.
+   * @param exception the exception thrown by the previously attempted request
+   * @param request the previously attempted request
+   * @return the retry interval in milliseconds
+   */
+  protected int getInterval(IOException exception, Request request) {
+    RetryContext context = request.tag(RetryContext.class);
+    return calculateBackoff(request, context != null ? context.getRetryCount() : 0);
+  }
+
+  /**
+   * Determine whether or not to retry a request that failed with an I/O error (i.e. no response was received).
+   * Only transient network failures (connection resets, refused connections, timeouts and the like) are
+   * retried, and only if the request can safely be repeated: its method must be idempotent, or it must carry
+   * an "Idempotency-Key" header (see {@link ServiceCall#withIdempotencyKey()}).
+   * @param exception the exception thrown by the previously-attempted request
+   * @param request the previously-attempted request
+   * @return true if the specified request should be retried, false otherwise
+   */
+  protected boolean shouldRetry(IOException exception, Request request) {
+    LOG.log(Level.FINE, "Considering retry attempt; exception={0}, method={1}, url={2}",
+        new Object[] { exception.toString(), request.method(), request.url().toString()});
+
+    if (!isTransient(exception)) {
+      LOG.log(Level.FINE, "No retry, exception not eligible");
+      return false;
+    }
+    if (!IDEMPOTENT_METHODS.contains(request.method()) && request.header(HttpHeaders.IDEMPOTENCY_KEY) == null) {
+      LOG.log(Level.FINE, "No retry, the request is not idempotent");
+      return false;
+    }
+    if (request.body() != null && request.body().isOneShot()) {
+      LOG.log(Level.FINE, "No retry, the request body cannot be sent again");
+      return false;
+    }
+
+    if (!checkRetryCount(request)) {
+      LOG.log(Level.FINE, "No retry, maximum number of retries reached");
+      return false;
+    }
+
+    LOG.log(Level.FINE, "Retry will be attempted");
+    return true;
+  }
+
+  /**
+   * Counts a retry attempt for the specified request and checks it against the maximum number of retries,
+   * taken from the request's {@link RetryPolicy} if it has one.
+   * @param request the previously-attempted request
+   * @return true if another retry may be attempted
+   */
+  private boolean checkRetryCount(Request request) {
+    RetryPolicy policy = request.tag(RetryPolicy.class);
+    RetryContext context = request.tag(RetryContext.class);
+    if (context == null) {
+      // There is no RetryContext tag in the request, which means this would be the first retry.
+      return policy == null || policy.getMaxRetries() > 0;
+    }
+    return context.incCountAndCheck(policy != null ? policy.getMaxRetries() : maxRetries);
+  }
+
+  /**
+   * Returns true if the exception represents a transient network failure that may not recur.
+   * TLS failures, unknown hosts and malformed URLs are permanent; a plain InterruptedIOException
+   * (as opposed to a socket timeout) indicates that the call itself was cancelled or timed out.
+   * @param exception the exception to classify
+   * @return true if the exception is transient
+   */
+  protected boolean isTransient(IOException exception) {
+    if (exception instanceof SSLException
+        || exception instanceof UnknownHostException
+        || exception instanceof UnknownServiceException
+        || exception instanceof ProtocolException) {
+      return false;
+    }
+    if (exception instanceof InterruptedIOException) {
+      return exception instanceof SocketTimeoutException;
+    }
+    return true;
+  }
+
+  /**
+   * Compute the backoff time for the specified request, using the request's {@link RetryPolicy} if it has one.
+   * @param request the previously-attempted request
+   * @param retryCount the retry count for which we need to compute the backoff time
+   * @return the retry interval in milliseconds
+   */
+  private int calculateBackoff(Request request, int retryCount) {
+    RetryPolicy policy = request.tag(RetryPolicy.class);
+    return policy != null ? policy.calculateBackoff(retryCount) : calculateBackoff(retryCount);
+  }
+
   /**
    * Compute the "backoff" time (retry interval) in milleseconds based on the retry count.
    * This calculation is based on the go-retryablehttp package's "DefaultBackoff()" function.
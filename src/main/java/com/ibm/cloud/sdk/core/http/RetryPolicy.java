@@ -0,0 +1,285 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A retry policy that applies to an individual request rather than to every request sent by a client.
+ * <p>
+ * A policy is attached to a request as a tag, either with {@link RequestBuilder#retryPolicy(RetryPolicy)} or
+ * {@link ServiceCall#withRetryPolicy(RetryPolicy)}, and is honoured by {@link RetryInterceptor} in place of the
+ * client-wide settings passed to {@link HttpConfigOptions.Builder#enableRetries}. Retries must be enabled on the
+ * client for the policy to take effect.
+ * <p>
+ * The retry interval for retry number n (starting at zero) is initialInterval * multiplier^n, capped at
+ * maxInterval, unless the response contains a Retry-After header.
+ */
+public class RetryPolicy {
+
+  /**
+   * A policy that disables retries for the request it is attached to.
+   */
+  public static final RetryPolicy NO_RETRIES = new Builder().maxRetries(0).build();
+
+  private int maxRetries;
+  private Duration initialInterval;
+  private Duration maxInterval;
+  private double multiplier;
+  private Set<Integer> retryableStatusCodes;
+  private Duration totalTimeBudget;
+
+  /**
+   * Returns the maximum number of retries, not counting the initial attempt. Defaults to 4.
+   *
+   * @return the maximum number of retries; zero means the request is not retried
+   */
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Returns the interval to wait before the first retry (unless the response contains a Retry-After header).
+   * Defaults to 1 second.
+   *
+   * @return the initial retry interval
+   */
+  public Duration getInitialInterval() {
+    return initialInterval;
+  }
+
+  /**
+   * Returns the maximum interval to wait between retries; the interval computed from the initial interval and
+   * the multiplier is capped at this value. Defaults to 30 seconds.
+   *
+   * @return the maximum retry interval
+   */
+  public Duration getMaxInterval() {
+    return maxInterval;
+  }
+
+  /**
+   * Returns the factor by which the retry interval grows with each retry. Defaults to 2 (exponential backoff).
+   *
+   * @return the backoff multiplier, which is at least 1
+   */
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  /**
+   * Returns the status codes that are retried under this policy.
+   *
+   * @return the set of status codes, or null if the default criteria (429 and 5xx except 501) apply
+   */
+  public Set<Integer> getRetryableStatusCodes() {
+    return retryableStatusCodes;
+  }
+
+  /**
+   * Returns the total time budget for the request, including all retries and the waits between them.
+   *
+   * There is no budget by default.
+   *
+   * @return the total time budget, or null if there is none
+   */
+  public Duration getTotalTimeBudget() {
+    return totalTimeBudget;
+  }
+
+  /**
+   * Returns true if a response with the specified status code should be retried under this policy.
+   *
+   * @param statusCode the status code of the response
+   * @return true if the status code is retryable
+   */
+  public boolean isRetryableStatusCode(int statusCode) {
+    if (retryableStatusCodes != null) {
+      return retryableStatusCodes.contains(statusCode);
+    }
+    return statusCode == 429 || (statusCode >= 500 && statusCode <= 599 && statusCode != 501);
+  }
+
+  /**
+   * Compute the retry interval for the specified retry.
+   *
+   * @param retryCount the number of retries that have already been attempted
+   * @return the retry interval in milliseconds
+   */
+  public int calculateBackoff(int retryCount) {
+    double interval = initialInterval.toMillis() * Math.pow(multiplier, retryCount);
+    long max = maxInterval.toMillis();
+    if (interval > max) {
+      return (int) Math.min(max, Integer.MAX_VALUE);
+    }
+    return (int) interval;
+  }
+
+  /**
+   * Creates a new builder that is initialized from this policy.
+   *
+   * @return the builder
+   */
+  public Builder newBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * A builder of {@link RetryPolicy} instances. A builder that has not been configured builds a policy
+   * with the defaults described by its methods: 4 retries, an initial interval of 1 second that doubles with
+   * each retry up to 30 seconds, the default retryable status codes and no total time budget.
+   */
+  public static class Builder {
+    private int maxRetries = 4;
+    private Duration initialInterval = Duration.ofSeconds(1);
+    private Duration maxInterval = Duration.ofSeconds(30);
+    private double multiplier = 2.0;
+    private Set<Integer> retryableStatusCodes;
+    private Duration totalTimeBudget;
+
+    /**
+     * Constructs a builder with the default settings.
+     */
+    public Builder() {
+    }
+
+    private Builder(RetryPolicy policy) {
+      this.maxRetries = policy.maxRetries;
+      this.initialInterval = policy.initialInterval;
+      this.maxInterval = policy.maxInterval;
+      this.multiplier = policy.multiplier;
+      this.retryableStatusCodes = policy.retryableStatusCodes;
+      this.totalTimeBudget = policy.totalTimeBudget;
+    }
+
+    /**
+     * Builds a RetryPolicy from the settings in this builder.
+     *
+     * @return the retry policy
+     */
+    public RetryPolicy build() {
+      return new RetryPolicy(this);
+    }
+
+    /**
+     * Sets the maximum number of retries (not counting the initial attempt). Defaults to 4.
+     *
+     * @param maxRetries the maximum number of retries; zero disables retries
+     * @return the builder
+     */
+    public Builder maxRetries(int maxRetries) {
+      if (maxRetries < 0) {
+        throw new IllegalArgumentException("maxRetries cannot be negative");
+      }
+      this.maxRetries = maxRetries;
+      return this;
+    }
+
+    /**
+     * Sets the interval to wait before the first retry. Defaults to 1 second.
+     * Intervals are applied with millisecond precision.
+     *
+     * @param initialInterval the initial retry interval; must not be null or negative
+     * @return the builder
+     */
+    public Builder initialInterval(Duration initialInterval) {
+      if (initialInterval == null || initialInterval.isNegative()) {
+        throw new IllegalArgumentException("initialInterval must be a non-negative duration");
+      }
+      this.initialInterval = initialInterval;
+      return this;
+    }
+
+    /**
+     * Sets the maximum interval to wait between retries. Defaults to 30 seconds.
+     *
+     * @param maxInterval the maximum retry interval; must not be null or negative
+     * @return the builder
+     */
+    public Builder maxInterval(Duration maxInterval) {
+      if (maxInterval == null || maxInterval.isNegative()) {
+        throw new IllegalArgumentException("maxInterval must be a non-negative duration");
+      }
+      this.maxInterval = maxInterval;
+      return this;
+    }
+
+    /**
+     * Sets the factor by which the retry interval grows with each retry. Defaults to 2 (exponential backoff);
+     * a value of 1 results in a constant retry interval.
+     *
+     * @param multiplier the backoff multiplier; must be at least 1
+     * @return the builder
+     */
+    public Builder multiplier(double multiplier) {
+      if (multiplier < 1.0) {
+        throw new IllegalArgumentException("multiplier must be at least 1");
+      }
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /**
+     * Sets the status codes to be retried. By default, 429 and all 5xx status codes except 501 are retried.
+     *
+     * @param statusCodes the status codes to be retried
+     * @return the builder
+     */
+    public Builder retryableStatusCodes(Integer... statusCodes) {
+      return retryableStatusCodes(Arrays.asList(statusCodes));
+    }
+
+    /**
+     * Sets the status codes to be retried. By default, 429 and all 5xx status codes except 501 are retried.
+     *
+     * @param statusCodes the status codes to be retried, or null to use the default criteria
+     * @return the builder
+     */
+    public Builder retryableStatusCodes(Collection<Integer> statusCodes) {
+      this.retryableStatusCodes = statusCodes != null
+          ? Collections.unmodifiableSet(new HashSet<>(statusCodes)) : null;
+      return this;
+    }
+
+    /**
+     * Sets the total time budget for the request. A retry is not attempted unless it can be expected to
+     * complete within the budget, which is measured from the start of the initial attempt.
+     * There is no budget by default.
+     *
+     * @param totalTimeBudget the total time budget, or null for no budget
+     * @return the builder
+     */
+    public Builder totalTimeBudget(Duration totalTimeBudget) {
+      if (totalTimeBudget != null && totalTimeBudget.isNegative()) {
+        throw new IllegalArgumentException("totalTimeBudget must be a non-negative duration");
+      }
+      this.totalTimeBudget = totalTimeBudget;
+      return this;
+    }
+  }
+
+  private RetryPolicy(Builder builder) {
+    this.maxRetries = builder.maxRetries;
+    this.initialInterval = builder.initialInterval;
+    this.maxInterval = builder.maxInterval;
+    this.multiplier = builder.multiplier;
+    this.retryableStatusCodes = builder.retryableStatusCodes;
+    this.totalTimeBudget = builder.totalTimeBudget;
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+/**
+ * A single event received from a "text/event-stream" (Server-Sent Events) response.
+ *
+ * @param <T> the type of the event's (optionally decoded) data field
+ */
+public class ServerSentEvent<T> {
+
+  /** The event type used when the event does not specify one. */
+  public static final String DEFAULT_EVENT = "message";
+
+  private String id;
+  private String event;
+  private Long retry;
+  private String rawData;
+  private T data;
+
+  /**
+   * Instantiates a new event.
+   *
+   * @param id the last event id in effect when the event was dispatched (may be null)
+   * @param event the event type
+   * @param retry the reconnection time (in milliseconds) sent with the event (may be null)
+   * @param rawData the event's data field, exactly as received
+   * @param data the event's data field, decoded into the requested type
+   */
+  public ServerSentEvent(String id, String event, Long retry, String rawData, T data) {
+    this.id = id;
+    this.event = event;
+    this.retry = retry;
+    this.rawData = rawData;
+    this.data = data;
+  }
+
+  /**
+   * Returns the last event id in effect when this event was dispatched.
+   *
+   * @return the event id, or null if the stream has not set one
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the event type.
+   *
+   * @return the event type ("message" unless the server specified otherwise)
+   */
+  public String getEvent() {
+    return event;
+  }
+
+  /**
+   * Returns the reconnection time sent by the server along with this event.
+   *
+   * @return the reconnection time in milliseconds, or null if not specified
+   */
+  public Long getRetry() {
+    return retry;
+  }
+
+  /**
+   * Returns the event's data field exactly as it was received.
+   *
+   * @return the raw data
+   */
+  public String getRawData() {
+    return rawData;
+  }
+
+  /**
+   * Returns the event's data field, decoded into the type requested by the caller.
+   *
+   * @return the data
+   */
+  public T getData() {
+    return data;
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "ServerSentEvent [id=" + id + ", event=" + event + ", retry=" + retry + ", data=" + rawData + "]";
+  }
+}
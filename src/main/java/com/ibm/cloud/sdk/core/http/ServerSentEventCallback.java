@@ -0,0 +1,42 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+/**
+ * Callback that receives the events of an asynchronous "text/event-stream" request as they arrive.
+ *
+ * @param <T> the type of each event's data field
+ */
+public interface ServerSentEventCallback<T> {
+
+  /**
+   * Called once for each event, in the order in which the events were received.
+   *
+   * @param event the event
+   */
+  void onEvent(ServerSentEvent<T> event);
+
+  /**
+   * Called after the last event once the server has ended the stream.
+   */
+  void onComplete();
+
+  /**
+   * Called if there is an error during the request or while reading the stream.
+   * No further methods are invoked on the callback after this one.
+   *
+   * @param e the exception thrown during the request
+   */
+  void onFailure(Exception e);
+}
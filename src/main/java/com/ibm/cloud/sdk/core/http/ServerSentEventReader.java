@@ -0,0 +1,271 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+import okio.BufferedSource;
+import okio.ByteString;
+
+/**
+ * Incrementally parses a "text/event-stream" (Server-Sent Events) body into {@link ServerSentEvent} instances.
+ * <p>
+ * Events are read from the underlying source one at a time as the caller iterates, so each event is available as
+ * soon as its terminating blank line has arrived and the body is never buffered in its entirety.
+ * The parser follows the W3C/WHATWG event stream interpretation rules: comment lines are ignored,
+ * multiple "data" lines are joined with a newline, and an event is dispatched only if it contains data.
+ * <p>
+ * If a data type other than String was specified, the data field of each event is decoded with Gson.
+ * The reader closes the underlying source once the stream is exhausted; callers that stop iterating early
+ * must call {@link #close()} to release the connection.
+ *
+ * @param <T> the type into which each event's data field is decoded
+ */
+public class ServerSentEventReader<T> implements Iterator<ServerSentEvent<T>>, Closeable {
+  private static final Logger LOG = Logger.getLogger(ServerSentEventReader.class.getName());
+  private static final String ERROR_MESSAGE = "Error reading the event stream";
+
+  private static final ByteString LINE_TERMINATORS = ByteString.encodeUtf8("\r\n");
+  private static final ByteString UTF8_BOM = ByteString.decodeHex("efbbbf");
+
+  private final BufferedSource source;
+  private final Type dataType;
+
+  private ServerSentEvent<T> nextEvent;
+  private String lastEventId;
+  private boolean skipLeadingLf;
+  private boolean firstLine = true;
+  private boolean closed;
+
+  /**
+   * Instantiates a reader that returns each event's data as a String.
+   *
+   * @param source the event stream
+   */
+  public ServerSentEventReader(BufferedSource source) {
+    this(source, null);
+  }
+
+  /**
+   * Instantiates a reader that decodes each event's data field into the specified type.
+   *
+   * @param source the event stream
+   * @param dataType the type into which the data field should be decoded; null or String.class
+   * leaves the data field undecoded
+   */
+  public ServerSentEventReader(BufferedSource source, Type dataType) {
+    if (source == null) {
+      throw new IllegalArgumentException("source cannot be null");
+    }
+    this.source = source;
+    this.dataType = dataType;
+  }
+
+  /**
+   * Returns true if another event is available, blocking until it has been received or the stream ends.
+   *
+   * @return true if {@link #next()} will return an event
+   */
+  @Override
+  public boolean hasNext() {
+    if (nextEvent == null && !closed) {
+      try {
+        nextEvent = readEvent();
+      } catch (IOException e) {
+        closeQuietly();
+        LOG.log(Level.SEVERE, ERROR_MESSAGE, e);
+        throw new RuntimeException(ERROR_MESSAGE, e);
+      }
+      if (nextEvent == null) {
+        closeQuietly();
+      }
+    }
+    return nextEvent != null;
+  }
+
+  /**
+   * Returns the next event, blocking until it has been received.
+   *
+   * @return the next event
+   */
+  @Override
+  public ServerSentEvent<T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ServerSentEvent<T> event = nextEvent;
+    nextEvent = null;
+    return event;
+  }
+
+  /**
+   * Closes the underlying event stream. Further calls to {@link #hasNext()} will return false.
+   */
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      source.close();
+    }
+  }
+
+  private void closeQuietly() {
+    try {
+      close();
+    } catch (IOException e) {
+      LOG.log(Level.FINE, "Error closing the event stream", e);
+    }
+  }
+
+  /**
+   * Reads lines until an event is dispatched or the stream ends.
+   *
+   * @return the next event, or null if the stream ended
+   * @throws IOException if the stream could not be read
+   */
+  private ServerSentEvent<T> readEvent() throws IOException {
+    StringBuilder data = null;
+    String event = null;
+    Long retry = null;
+
+    String line;
+    while ((line = readLine()) != null) {
+      if (line.isEmpty()) {
+        // A blank line dispatches the event, but only if a data field was seen.
+        if (data != null) {
+          String rawData = data.toString();
+          return new ServerSentEvent<>(lastEventId, event != null ? event : ServerSentEvent.DEFAULT_EVENT, retry,
+              rawData, decode(rawData));
+        }
+        event = null;
+        retry = null;
+        continue;
+      }
+      if (line.charAt(0) == ':') {
+        // Comment line (often used as a keep-alive).
+        continue;
+      }
+
+      String field;
+      String value;
+      int colon = line.indexOf(':');
+      if (colon < 0) {
+        field = line;
+        value = "";
+      } else {
+        field = line.substring(0, colon);
+        int valueStart = colon + 1;
+        if (valueStart < line.length() && line.charAt(valueStart) == ' ') {
+          valueStart++;
+        }
+        value = line.substring(valueStart);
+      }
+
+      switch (field) {
+        case "data":
+          if (data == null) {
+            data = new StringBuilder(value);
+          } else {
+            data.append('\n').append(value);
+          }
+          break;
+        case "event":
+          event = value;
+          break;
+        case "id":
+          if (value.indexOf('\u0000') < 0) {
+            lastEventId = value;
+          }
+          break;
+        case "retry":
+          if (!value.isEmpty() && isDigits(value)) {
+            try {
+              retry = Long.valueOf(value);
+            } catch (NumberFormatException e) {
+              // Out of range; ignore the field as if it were malformed.
+            }
+          }
+          break;
+        default:
+          // Unknown fields are ignored.
+          break;
+      }
+    }
+
+    // The stream ended; an incomplete event (no terminating blank line) is discarded.
+    return null;
+  }
+
+  /**
+   * Reads the next line, accepting CRLF, LF or a lone CR as the line terminator.
+   *
+   * @return the line without its terminator, or null if the stream has ended
+   * @throws IOException if the stream could not be read
+   */
+  private String readLine() throws IOException {
+    if (skipLeadingLf) {
+      // The previous line ended with CR; swallow the LF of a CRLF pair if present.
+      skipLeadingLf = false;
+      if (!source.request(1)) {
+        return null;
+      }
+      if (source.getBuffer().getByte(0) == '\n') {
+        source.skip(1);
+      }
+    }
+    if (firstLine) {
+      firstLine = false;
+      if (source.rangeEquals(0, UTF8_BOM)) {
+        source.skip(UTF8_BOM.size());
+      }
+    }
+
+    long index = source.indexOfElement(LINE_TERMINATORS);
+    if (index < 0) {
+      // No terminator before the end of the stream; a trailing partial line can never dispatch an event.
+      return null;
+    }
+    String line = source.readUtf8(index);
+    if (source.readByte() == '\r') {
+      skipLeadingLf = true;
+    }
+    return line;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T decode(String rawData) {
+    if (dataType == null || String.class.equals(dataType)) {
+      return (T) rawData;
+    }
+    return GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(rawData, dataType);
+  }
+
+  private static boolean isDigits(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,75 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.http;
+
+import java.time.Duration;
+
+import io.reactivex.Flowable;
+
+/**
+ * Service Call for operations that return a "text/event-stream" (Server-Sent Events) response.
+ * <p>
+ * The result of {@link #execute()} is a {@link ServerSentEventReader}, which is an Iterator that parses
+ * events from the response body as they arrive. Alternatively, the events can be delivered through a
+ * {@link ServerSentEventCallback} or consumed as a {@link Flowable}.
+ *
+ * @param <T> the type of each event's data field
+ */
+public interface ServerSentEventServiceCall<T> extends ServiceCall<ServerSentEventReader<T>> {
+
+  /**
+   * Add a header to the request before executing.
+   *
+   * @param name the name of the header
+   * @param value the value of the header
+   * @return the ServerSentEventServiceCall with updated headers
+   */
+  @Override
+  ServerSentEventServiceCall<T> addHeader(String name, String value);
+
+  /**
+   * Sets the retry policy to be used for the request in place of the client's retry configuration.
+   *
+   * @param retryPolicy the retry policy
+   * @return the ServerSentEventServiceCall with the retry policy set
+   */
+  @Override
+  ServerSentEventServiceCall<T> withRetryPolicy(RetryPolicy retryPolicy);
+
+  /**
+   * Sets a deadline for the request before executing. Note that the deadline also bounds the time spent
+   * reading the event stream, so it should only be used for streams that are expected to end.
+   *
+   * @param timeout the maximum duration of the call; {@link Duration#ZERO} means no deadline
+   * @return the ServerSentEventServiceCall with the deadline set
+   */
+  @Override
+  ServerSentEventServiceCall<T> withDeadline(Duration timeout);
+
+  /**
+   * Asynchronous request in which each event is passed to the callback as soon as it has been received.
+   *
+   * @param callback the callback
+   */
+  void stream(ServerSentEventCallback<T> callback);
+
+  /**
+   * Reactive request using the RxJava 2 library. See https://github.com/ReactiveX/RxJava.
+   * The request is sent when the Flowable is subscribed to, and events are read from the response body only as
+   * they are requested by the subscriber. Cancelling the subscription closes the response body.
+   *
+   * @return a Flowable that emits each event of the stream
+   */
+  Flowable<ServerSentEvent<T>> reactiveStream();
+}
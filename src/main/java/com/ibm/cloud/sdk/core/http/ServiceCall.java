@@ -13,6 +13,9 @@
 
 package com.ibm.cloud.sdk.core.http;
 
+import java.time.Duration;
+import java.util.UUID;
+
 import io.reactivex.Single;
 
 /**
@@ -31,6 +34,56 @@ public interface ServiceCall<T> {
    */
   ServiceCall<T> addHeader(String name, String value);
 
+  /**
+   * Adds an "Idempotency-Key" header containing a newly-generated unique key to the request before executing.
+   * The same key is sent with each retry of the request, which allows the server to detect duplicates.
+   * When automatic retries are enabled, a non-idempotent request (e.g. POST) that fails with a transient
+   * I/O error (e.g. a connection reset) is retried only if it carries this header.
+   *
+   * @return the ServiceCall with the "Idempotency-Key" header added
+   */
+  default ServiceCall<T> withIdempotencyKey() {
+    return addHeader(HttpHeaders.IDEMPOTENCY_KEY, UUID.randomUUID().toString());
+  }
+
+  /**
+   * Sets the retry policy to be used for the request in place of the client's retry configuration.
+   * Retries must be enabled on the client for the policy to take effect.
+   * <p>
+   * A retry policy only adjusts the automatic retries performed by the client, so it is a hint rather than
+   * a guarantee: when the client has no retries to adjust, the request is sent once whatever the policy says.
+   * The default implementation, for ServiceCall implementations that do not send requests through the
+   * SDK's retry interceptor, returns this ServiceCall unchanged.
+   *
+   * @param retryPolicy the retry policy
+   * @return the ServiceCall with the retry policy set
+   */
+  default ServiceCall<T> withRetryPolicy(RetryPolicy retryPolicy) {
+    return this;
+  }
+
+  /**
+   * Sets a deadline for the request before executing.
+   * The deadline bounds the total wall time of the call once it has been executed, including any automatic
+   * retries, the time spent waiting between retries, any token fetches needed to re-authenticate retried requests,
+   * and reading the response body. If the deadline is reached, the call is cancelled and fails with an
+   * {@link java.io.InterruptedIOException}. A retry that cannot complete before the deadline is not attempted.
+   * <p>
+   * An implementation that cannot enforce a deadline must not accept one, since the caller relies on the call
+   * being cancelled. The default implementation therefore throws an IllegalStateException for any deadline
+   * other than {@link Duration#ZERO}.
+   *
+   * @param timeout the maximum duration of the call; {@link Duration#ZERO} means no deadline
+   * @return the ServiceCall with the deadline set
+   * @throws IllegalStateException if this ServiceCall does not support deadlines
+   */
+  default ServiceCall<T> withDeadline(Duration timeout) {
+    if (Duration.ZERO.equals(timeout)) {
+      return this;
+    }
+    throw new IllegalStateException("Deadlines are not supported by " + getClass().getName());
+  }
+
   /**
    * Synchronous request.
    *
@@ -0,0 +1,627 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.sdk.core.service.model.DynamicModel;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
+import com.ibm.cloud.sdk.core.util.ModelTypeAdapterFactory;
+
+/**
+ * An annotation processor that generates a Gson TypeAdapter for each GenericModel subclass being compiled,
+ * so that the models can be serialized and deserialized without reflection.
+ * <p>
+ * For each package that contains eligible models, the processor generates a TypeAdapter class named
+ * "&lt;model&gt;_TypeAdapter" for each model, plus a public {@link ModelTypeAdapterFactory} named
+ * "GeneratedModelTypeAdapterFactory" that provides those adapters, and lists the factories in
+ * <code>META-INF/services/com.ibm.cloud.sdk.core.util.ModelTypeAdapterFactory</code> so that
+ * {@link com.ibm.cloud.sdk.core.util.GsonSingleton} registers them.
+ * <p>
+ * The generated adapters produce and accept the same JSON as Gson's reflection-based adapter: fields are
+ * serialized in the same order (a class's own fields before those of its superclass), with the names given by
+ * their SerializedName annotations, and static and transient fields are ignored.
+ * A model class is skipped (and left to the reflection-based adapter) if it is abstract, generic, a
+ * DynamicModel subclass, the base class of a discriminator, lacks a non-private no-arg constructor, uses a
+ * JsonAdapter annotation, or has a serialized field that is private, final, or not accessible from its package.
+ * The reason a class was skipped is reported as a note.
+ * <p>
+ * The processor is not registered as a service, so it runs only when it is named explicitly, e.g. in the
+ * <code>annotationProcessors</code> configuration of the maven-compiler-plugin or with the <code>-processor</code>
+ * javac option. The {@value #PACKAGES_OPTION} option (e.g.
+ * <code>-Acom.ibm.cloud.sdk.core.processor.packages=com.ibm.cloud.example.v1.model</code>) restricts the
+ * processor to a comma-separated list of packages and their subpackages.
+ */
+@SupportedAnnotationTypes("com.google.gson.annotations.SerializedName")
+@SupportedOptions(ModelTypeAdapterProcessor.PACKAGES_OPTION)
+public class ModelTypeAdapterProcessor extends AbstractProcessor {
+
+  /** The name of the option that restricts the processor to a list of packages. */
+  public static final String PACKAGES_OPTION = "com.ibm.cloud.sdk.core.processor.packages";
+
+  /** The simple name of the factory generated for each package. */
+  static final String FACTORY_NAME = "GeneratedModelTypeAdapterFactory";
+
+  private static final String SERVICE_RESOURCE = "META-INF/services/" + ModelTypeAdapterFactory.class.getName();
+  private static final String DISCRIMINATOR_FIELD = "discriminatorPropertyName";
+
+  private Elements elements;
+  private Types types;
+  private TypeMirror genericModelType;
+  private TypeMirror dynamicModelType;
+  private List<String> packages;
+
+  // The generated factories, and the number of factories generated so far for each package.
+  private final Set<String> factories = new TreeSet<>();
+  private final Map<String, Integer> factoryCounts = new HashMap<>();
+
+  @Override
+  public synchronized void init(ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    elements = processingEnv.getElementUtils();
+    types = processingEnv.getTypeUtils();
+    genericModelType = elements.getTypeElement(GenericModel.class.getCanonicalName()).asType();
+    dynamicModelType = types.erasure(elements.getTypeElement(DynamicModel.class.getCanonicalName()).asType());
+
+    String option = processingEnv.getOptions().get(PACKAGES_OPTION);
+    if (option != null && !option.trim().isEmpty()) {
+      packages = new ArrayList<>();
+      for (String pkg : option.split(",")) {
+        if (!pkg.trim().isEmpty()) {
+          packages.add(pkg.trim());
+        }
+      }
+    }
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      if (!factories.isEmpty()) {
+        writeServiceResource();
+      }
+      return false;
+    }
+
+    Set<TypeElement> candidates = new LinkedHashSet<>();
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      addCandidates(type, candidates);
+    }
+
+    Map<String, List<Model>> modelsByPackage = new TreeMap<>();
+    for (TypeElement type : candidates) {
+      Model model = new Model(type, elements.getPackageOf(type).getQualifiedName().toString());
+      String reason = check(model);
+      if (reason != null) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+            "Not generating a TypeAdapter for " + type.getQualifiedName() + ": " + reason, type);
+        continue;
+      }
+      List<Model> models = modelsByPackage.get(model.pkg);
+      if (models == null) {
+        models = new ArrayList<>();
+        modelsByPackage.put(model.pkg, models);
+      }
+      models.add(model);
+    }
+
+    for (Map.Entry<String, List<Model>> entry : modelsByPackage.entrySet()) {
+      try {
+        for (Model model : entry.getValue()) {
+          writeAdapter(model);
+        }
+        writeFactory(entry.getKey(), entry.getValue());
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+            "Unable to generate the TypeAdapters for package " + entry.getKey() + ": " + e);
+      }
+    }
+
+    // Other processors may also be interested in SerializedName.
+    return false;
+  }
+
+  /**
+   * Adds the specified type and its member types to the set of candidates if they are GenericModel subclasses
+   * within the packages to be processed.
+   */
+  private void addCandidates(TypeElement type, Set<TypeElement> candidates) {
+    if (types.isSubtype(types.erasure(type.asType()), genericModelType) && isIncluded(type)) {
+      candidates.add(type);
+    }
+    for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+      addCandidates(member, candidates);
+    }
+  }
+
+  private boolean isIncluded(TypeElement type) {
+    if (packages == null) {
+      return true;
+    }
+    String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+    for (String included : packages) {
+      if (pkg.equals(included) || pkg.startsWith(included + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a TypeAdapter can be generated for the specified model, and collects its serialized fields.
+   *
+   * @return null if the model is eligible, or otherwise the reason it is not
+   */
+  private String check(Model model) {
+    TypeElement type = model.type;
+    if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+      return "not a concrete class";
+    }
+    if (!type.getTypeParameters().isEmpty()) {
+      return "generic class";
+    }
+    if (types.isSubtype(type.asType(), dynamicModelType)) {
+      return "DynamicModel subclass";
+    }
+    for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      TypeElement t = (TypeElement) e;
+      if (t.getModifiers().contains(Modifier.PRIVATE)
+          || t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)
+          || t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+        return "not accessible from its package";
+      }
+    }
+    if (type.getAnnotation(JsonAdapter.class) != null) {
+      return "uses a JsonAdapter annotation";
+    }
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (field.getSimpleName().contentEquals(DISCRIMINATOR_FIELD)) {
+        return "uses a discriminator";
+      }
+    }
+    if (!hasNoArgConstructor(type)) {
+      return "no accessible no-arg constructor";
+    }
+
+    Set<String> names = new HashSet<>();
+    TypeElement current = type;
+    while (!types.isSameType(current.asType(), genericModelType)) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+          continue;
+        }
+        String fieldName = field.getSimpleName().toString();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+          return "field " + fieldName + " is private or final";
+        }
+        if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(current).equals(
+            elements.getPackageOf(type))) {
+          return "field " + fieldName + " is not accessible from the package";
+        }
+        if (field.getAnnotation(JsonAdapter.class) != null) {
+          return "field " + fieldName + " uses a JsonAdapter annotation";
+        }
+        String typeReason = checkType(field.asType(), model.pkg);
+        if (typeReason != null) {
+          return "field " + fieldName + " has " + typeReason;
+        }
+
+        ModelField modelField = new ModelField(field, model.fields.size());
+        for (String name : modelField.names) {
+          if (!names.add(name)) {
+            return "multiple fields use the JSON name " + name;
+          }
+        }
+        model.fields.add(modelField);
+      }
+
+      TypeMirror superclass = current.getSuperclass();
+      if (!((DeclaredType) superclass).getTypeArguments().isEmpty()) {
+        return "generic superclass";
+      }
+      current = (TypeElement) types.asElement(superclass);
+    }
+    return null;
+  }
+
+  private boolean hasNoArgConstructor(TypeElement type) {
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the specified field type can be named in the generated code.
+   *
+   * @return null if the type can be used, or otherwise a description of the problem
+   */
+  private String checkType(TypeMirror type, String pkg) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case CHAR:
+      case FLOAT:
+      case DOUBLE:
+        return null;
+      case ARRAY:
+        return checkType(((ArrayType) type).getComponentType(), pkg);
+      case WILDCARD:
+        WildcardType wildcard = (WildcardType) type;
+        if (wildcard.getExtendsBound() != null) {
+          return checkType(wildcard.getExtendsBound(), pkg);
+        }
+        if (wildcard.getSuperBound() != null) {
+          return checkType(wildcard.getSuperBound(), pkg);
+        }
+        return null;
+      case DECLARED:
+        for (Element e = types.asElement(type); e instanceof TypeElement; e = e.getEnclosingElement()) {
+          Set<Modifier> modifiers = e.getModifiers();
+          if (modifiers.contains(Modifier.PRIVATE) || !modifiers.contains(Modifier.PUBLIC)
+              && !elements.getPackageOf(e).getQualifiedName().contentEquals(pkg)) {
+            return "a type that is not accessible from the package";
+          }
+        }
+        for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+          String reason = checkType(argument, pkg);
+          if (reason != null) {
+            return reason;
+          }
+        }
+        return null;
+      case TYPEVAR:
+        return "a type variable in its type";
+      default:
+        return "an unsupported type (" + type + ")";
+    }
+  }
+
+  /**
+   * Generates the TypeAdapter for the specified model.
+   */
+  private void writeAdapter(Model model) throws IOException {
+    String modelName = model.type.getQualifiedName().toString();
+    boolean usesRuntimeType = false;
+    for (ModelField field : model.fields) {
+      usesRuntimeType |= field.usesRuntimeType;
+    }
+
+    Filer filer = processingEnv.getFiler();
+    try (PrintWriter out = new PrintWriter(filer.createSourceFile(model.pkg + "." + model.adapterName,
+        model.type).openWriter())) {
+      writeHeader(out, model.pkg, "java.io.IOException", "com.google.gson.Gson", "com.google.gson.TypeAdapter",
+          "com.google.gson.reflect.TypeToken", "com.google.gson.stream.JsonReader", "com.google.gson.stream.JsonToken",
+          "com.google.gson.stream.JsonWriter");
+      out.println("/**");
+      out.println(" * A TypeAdapter for {@link " + modelName + "}.");
+      out.println(" */");
+      out.println("final class " + model.adapterName + " extends TypeAdapter<" + modelName + "> {");
+      if (usesRuntimeType) {
+        out.println("  private final Gson gson;");
+      }
+      for (ModelField field : model.fields) {
+        out.println("  private final TypeAdapter<" + field.boxedType + "> " + field.adapter + ";");
+      }
+      out.println();
+      out.println("  " + model.adapterName + "(Gson gson) {");
+      if (usesRuntimeType) {
+        out.println("    this.gson = gson;");
+      }
+      for (ModelField field : model.fields) {
+        String token = field.isParameterized
+            ? "new TypeToken<" + field.boxedType + ">() { }"
+            : field.boxedType + ".class";
+        out.println("    this." + field.adapter + " = gson.getAdapter(" + token + ");");
+      }
+      out.println("  }");
+
+      out.println();
+      out.println("  @Override");
+      out.println("  public void write(JsonWriter out, " + modelName + " value) throws IOException {");
+      out.println("    if (value == null) {");
+      out.println("      out.nullValue();");
+      out.println("      return;");
+      out.println("    }");
+      out.println("    out.beginObject();");
+      for (ModelField field : model.fields) {
+        out.println("    out.name(\"" + escape(field.names.get(0)) + "\");");
+        if (field.usesRuntimeType) {
+          out.println("    writeValue(out, " + field.adapter + ", " + field.boxedType + ".class, value."
+              + field.name + ");");
+        } else {
+          out.println("    " + field.adapter + ".write(out, value." + field.name + ");");
+        }
+      }
+      out.println("    out.endObject();");
+      out.println("  }");
+
+      out.println();
+      out.println("  @Override");
+      out.println("  public " + modelName + " read(JsonReader in) throws IOException {");
+      out.println("    if (in.peek() == JsonToken.NULL) {");
+      out.println("      in.nextNull();");
+      out.println("      return null;");
+      out.println("    }");
+      out.println("    " + modelName + " instance = new " + modelName + "();");
+      out.println("    in.beginObject();");
+      out.println("    while (in.hasNext()) {");
+      out.println("      switch (in.nextName()) {");
+      for (ModelField field : model.fields) {
+        for (String name : field.names) {
+          out.println("        case \"" + escape(name) + "\":");
+        }
+        if (field.isPrimitive) {
+          // As with the reflection-based adapter, a JSON null leaves a primitive field unchanged.
+          out.println("          " + field.boxedType + " " + field.adapter + "Value = " + field.adapter
+              + ".read(in);");
+          out.println("          if (" + field.adapter + "Value != null) {");
+          out.println("            instance." + field.name + " = " + field.adapter + "Value;");
+          out.println("          }");
+        } else {
+          out.println("          instance." + field.name + " = " + field.adapter + ".read(in);");
+        }
+        out.println("          break;");
+      }
+      out.println("        default:");
+      out.println("          in.skipValue();");
+      out.println("      }");
+      out.println("    }");
+      out.println("    in.endObject();");
+      out.println("    return instance;");
+      out.println("  }");
+
+      if (usesRuntimeType) {
+        // Like the reflection-based adapter, serialize a field's value with the adapter for its runtime type
+        // when that is a subclass of the field's declared type.
+        out.println();
+        out.println("  @SuppressWarnings(\"unchecked\")");
+        out.println("  private <V> void writeValue(JsonWriter out, TypeAdapter<V> adapter, Class<?> declaredType,"
+            + " V value)");
+        out.println("      throws IOException {");
+        out.println("    if (value != null && value.getClass() != declaredType) {");
+        out.println("      ((TypeAdapter<Object>) gson.getAdapter(value.getClass())).write(out, value);");
+        out.println("    } else {");
+        out.println("      adapter.write(out, value);");
+        out.println("    }");
+        out.println("  }");
+      }
+      out.println("}");
+    }
+  }
+
+  /**
+   * Generates the ModelTypeAdapterFactory for the specified package.
+   */
+  private void writeFactory(String pkg, List<Model> models) throws IOException {
+    // A package normally has one factory, but models generated by other processors may be found in a later round.
+    Integer count = factoryCounts.get(pkg);
+    count = count == null ? 1 : count + 1;
+    factoryCounts.put(pkg, count);
+    String factoryName = count == 1 ? FACTORY_NAME : FACTORY_NAME + count;
+
+    Element[] originatingElements = new Element[models.size()];
+    for (int i = 0; i < models.size(); i++) {
+      originatingElements[i] = models.get(i).type;
+    }
+
+    Filer filer = processingEnv.getFiler();
+    try (PrintWriter out = new PrintWriter(filer.createSourceFile(pkg + "." + factoryName,
+        originatingElements).openWriter())) {
+      writeHeader(out, pkg, "com.google.gson.Gson", "com.google.gson.TypeAdapter", "com.google.gson.reflect.TypeToken",
+          ModelTypeAdapterFactory.class.getName());
+      out.println("/**");
+      out.println(" * A ModelTypeAdapterFactory that provides the generated TypeAdapters for this package.");
+      out.println(" */");
+      out.println("public final class " + factoryName + " implements ModelTypeAdapterFactory {");
+      out.println("  @Override");
+      out.println("  @SuppressWarnings(\"unchecked\")");
+      out.println("  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {");
+      out.println("    Class<? super T> rawType = type.getRawType();");
+      for (Model model : models) {
+        out.println("    if (rawType == " + model.type.getQualifiedName() + ".class) {");
+        out.println("      return (TypeAdapter<T>) new " + model.adapterName + "(gson);");
+        out.println("    }");
+      }
+      out.println("    return null;");
+      out.println("  }");
+      out.println("}");
+    }
+    factories.add(pkg + "." + factoryName);
+  }
+
+  private void writeHeader(PrintWriter out, String pkg, String... imports) {
+    out.println("// Generated by " + ModelTypeAdapterProcessor.class.getName() + ". Do not edit.");
+    out.println();
+    out.println("package " + pkg + ";");
+    out.println();
+    for (String imported : imports) {
+      out.println("import " + imported + ";");
+    }
+    out.println();
+  }
+
+  /**
+   * Lists the generated factories in the ModelTypeAdapterFactory service resource, keeping any entries that the
+   * resource already contains (e.g. factories written by hand in the same module).
+   */
+  private void writeServiceResource() {
+    Filer filer = processingEnv.getFiler();
+    Set<String> entries = new TreeSet<>();
+    try {
+      FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_RESOURCE);
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(),
+          StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          int comment = line.indexOf('#');
+          String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+          if (!entry.isEmpty()) {
+            entries.add(entry);
+          }
+        }
+      }
+    } catch (IOException e) {
+      // The resource does not exist yet.
+    }
+    entries.addAll(factories);
+
+    try {
+      FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_RESOURCE);
+      try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+        for (String entry : entries) {
+          writer.write(entry);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Unable to write " + SERVICE_RESOURCE + ": " + e);
+    }
+  }
+
+  private static String escape(String s) {
+    return s.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  /**
+   * A model class and its serialized fields.
+   */
+  private static class Model {
+    private final TypeElement type;
+    private final String pkg;
+    private final String adapterName;
+    private final List<ModelField> fields = new ArrayList<>();
+
+    Model(TypeElement type, String pkg) {
+      this.type = type;
+      this.pkg = pkg;
+      // The binary name without the package, e.g. "Outer$Inner" becomes "Outer_Inner_TypeAdapter".
+      String name = type.getQualifiedName().toString();
+      if (!pkg.isEmpty()) {
+        name = name.substring(pkg.length() + 1);
+      }
+      this.adapterName = name.replace('.', '_') + "_TypeAdapter";
+    }
+  }
+
+  /**
+   * A serialized field of a model class.
+   */
+  private class ModelField {
+    private final String name;
+    private final String adapter;
+    private final List<String> names = new ArrayList<>();
+    private final String boxedType;
+    private final boolean isPrimitive;
+    private final boolean isParameterized;
+    private final boolean usesRuntimeType;
+
+    ModelField(VariableElement field, int index) {
+      name = field.getSimpleName().toString();
+      adapter = name + "Adapter" + index;
+
+      SerializedName serializedName = field.getAnnotation(SerializedName.class);
+      if (serializedName != null) {
+        names.add(serializedName.value());
+        for (String alternate : serializedName.alternate()) {
+          names.add(alternate);
+        }
+      } else {
+        names.add(name);
+      }
+
+      TypeMirror type = field.asType();
+      isPrimitive = type.getKind().isPrimitive();
+      boxedType = isPrimitive
+          ? types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString()
+          : type.toString();
+      isParameterized = type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()
+          || type.getKind() == TypeKind.ARRAY && containsTypeArguments(type);
+      // The reflection-based adapter uses the runtime type of a value if the field's declared type is a class
+      // (rather than a parameterized type); that can only differ from the declared type if it (or, for an array,
+      // its element type) is not final.
+      TypeMirror elementType = elementType(type);
+      usesRuntimeType = !isParameterized && elementType.getKind() == TypeKind.DECLARED
+          && !types.asElement(elementType).getModifiers().contains(Modifier.FINAL);
+    }
+
+    private boolean containsTypeArguments(TypeMirror type) {
+      TypeMirror elementType = elementType(type);
+      return elementType.getKind() == TypeKind.DECLARED
+          && !((DeclaredType) elementType).getTypeArguments().isEmpty();
+    }
+
+    private TypeMirror elementType(TypeMirror type) {
+      while (type.getKind() == TypeKind.ARRAY) {
+        type = ((ArrayType) type).getComponentType();
+      }
+      return type;
+    }
+  }
+}
@@ -25,6 +25,9 @@ public abstract class AbstractToken {
   // resulted in an error.
   private transient Throwable exception;
 
+  // The Authorization header value for this token, computed when it is first needed.
+  private transient volatile String authorizationHeader;
+
   public AbstractToken() {
   }
 
@@ -38,4 +41,32 @@ public abstract class AbstractToken {
   public void setException(Throwable exception) {
     this.exception = exception;
   }
+
+  /**
+   * Returns the time at which this token should be refreshed, which is used to schedule a proactive
+   * (background) refresh of the token before it expires.
+   * Subclasses that know their refresh time should override this method.
+   *
+   * @return the refresh time (# of seconds since epoch time), or null if the token should not be
+   * refreshed proactively
+   */
+  public Long getRefreshTimeInSeconds() {
+    return null;
+  }
+
+  /**
+   * Returns the "Bearer" Authorization header value for this token's access token.
+   * The header value is computed once and then reused for each request that is authenticated with this token.
+   *
+   * @return the Authorization header value in the form "Bearer &lt;accessToken&gt;", or null if the token
+   * does not contain an access token
+   */
+  public String getAuthorizationHeader() {
+    String result = authorizationHeader;
+    if (result == null) {
+      result = AuthenticatorBase.constructBearerTokenAuthHeader(getAccessToken());
+      authorizationHeader = result;
+    }
+    return result;
+  }
 }
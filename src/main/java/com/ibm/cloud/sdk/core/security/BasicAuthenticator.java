@@ -14,6 +14,7 @@
 package com.ibm.cloud.sdk.core.security;
 
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
@@ -204,6 +205,8 @@ public class BasicAuthenticator extends AuthenticatorBase implements Authenticat
   @Override
   public void authenticate(okhttp3.Request.Builder builder) {
     builder.header(HttpHeaders.AUTHORIZATION, this.authHeader);
-    LOG.fine(String.format("Authenticated outbound request (type=%s)", this.authenticationType()));
+    if (LOG.isLoggable(Level.FINE)) {
+      LOG.fine(String.format("Authenticated outbound request (type=%s)", this.authenticationType()));
+    }
   }
 }
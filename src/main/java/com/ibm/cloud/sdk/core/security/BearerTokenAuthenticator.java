@@ -14,6 +14,7 @@
 package com.ibm.cloud.sdk.core.security;
 
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
@@ -111,6 +112,8 @@ public class BearerTokenAuthenticator extends AuthenticatorBase implements Authe
   @Override
   public void authenticate(Builder builder) {
     builder.header(HttpHeaders.AUTHORIZATION, this.cachedAuthHeader);
-    LOG.fine(String.format("Authenticated outbound request (type=%s)", this.authenticationType()));
+    if (LOG.isLoggable(Level.FINE)) {
+      LOG.fine(String.format("Authenticated outbound request (type=%s)", this.authenticationType()));
+    }
   }
 }
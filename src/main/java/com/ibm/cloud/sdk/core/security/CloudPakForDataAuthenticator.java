@@ -316,6 +316,27 @@ public class CloudPakForDataAuthenticator extends TokenRequestBasedAuthenticator
     return Authenticator.AUTHTYPE_CP4D;
   }
 
+  /**
+   * Returns the token cache key for this authenticator, which consists of
+   * the token service URL, username, password and apikey.
+   *
+   * @return the token cache key
+   */
+  @Override
+  protected String getTokenCacheKey() {
+    return buildTokenCacheKey(this.url, this.username, this.password, this.apikey);
+  }
+
+  /**
+   * The token cache key includes the password or apikey.
+   *
+   * @return true
+   */
+  @Override
+  protected boolean isTokenCacheKeySecret() {
+    return true;
+  }
+
   /**
    * Validates the configuration of this authenticator.
    */
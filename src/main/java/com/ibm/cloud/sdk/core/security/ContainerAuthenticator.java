@@ -17,7 +17,10 @@ import java.io.IOException;
 import java.net.Proxy;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -52,6 +55,9 @@ public class ContainerAuthenticator extends IamRequestBasedAuthenticator impleme
   private String iamProfileName;
   private String iamProfileId;
 
+  // The most recently read CR token, which is reused until its file is modified.
+  private volatile CachedCRToken cachedCRToken;
+
   /**
    * This Builder class is used to construct ContainerAuthenticator instances.
    */
@@ -295,6 +301,29 @@ public class ContainerAuthenticator extends IamRequestBasedAuthenticator impleme
     return Authenticator.AUTHTYPE_CONTAINER;
   }
 
+  /**
+   * Returns the token cache key for this authenticator, which consists of
+   * the token service URL, client id/secret, scope, CR token filename and trusted profile.
+   *
+   * @return the token cache key
+   */
+  @Override
+  protected String getTokenCacheKey() {
+    return buildTokenCacheKey(this.url, this.clientId, this.clientSecret, this.scope, this.crTokenFilename,
+        this.iamProfileName, this.iamProfileId);
+  }
+
+  /**
+   * The token cache key includes a credential only if a client secret is configured; the compute resource
+   * token itself is not part of the key.
+   *
+   * @return true if a client secret is configured
+   */
+  @Override
+  protected boolean isTokenCacheKeySecret() {
+    return this.clientSecret != null && !this.clientSecret.isEmpty();
+  }
+
   /**
    * @return the crTokenFilename configured on this Authenticator.
    */
@@ -378,26 +407,45 @@ public class ContainerAuthenticator extends IamRequestBasedAuthenticator impleme
 
   /**
    * Reads the CR token value from the file system.
+   * The value that was read is cached along with the file's last-modified time, size and file key,
+   * and is returned by subsequent calls as long as those attributes are unchanged.
+   * This means that the file is read again only after it has been rotated (e.g. by Kubernetes).
    * @return the CR token value
    */
   protected String retrieveCRToken() {
       try {
-          String crToken = null;
+          // If we previously read the CR token and its file has not changed since, then just use the cached value.
+          CachedCRToken cached = this.cachedCRToken;
+          if (cached != null) {
+              BasicFileAttributes attrs = readAttributes(cached.path);
+              if (attrs != null && cached.matches(attrs)) {
+                  LOG.log(Level.FINE, "Using cached CR token from file: {0}", cached.path);
+                  return cached.value;
+              }
+          }
+
+          String filename;
           if (StringUtils.isNotEmpty(getCrTokenFilename())) {
               // Try to read from the file specified by the user.
-              crToken = readFile(getCrTokenFilename());
-          } else {
+              filename = getCrTokenFilename();
+          } else if (cached != null && Files.isReadable(cached.path)) {
+              // The default file that we found previously still exists.
+              filename = cached.path.toString();
+          } else if (Files.isReadable(Paths.get(DEFAULT_CR_TOKEN_FILENAME1))) {
               // If no filename was supplied by the user, then try our three default filenames.
-              try {
-                  crToken = readFile(DEFAULT_CR_TOKEN_FILENAME1);
-              } catch (Throwable t) {
-                  try {
-                    crToken = readFile(DEFAULT_CR_TOKEN_FILENAME2);
-                  } catch (Throwable t1) {
-                    crToken = readFile(DEFAULT_CR_TOKEN_FILENAME3);
-                  }
-              }
+              filename = DEFAULT_CR_TOKEN_FILENAME1;
+          } else if (Files.isReadable(Paths.get(DEFAULT_CR_TOKEN_FILENAME2))) {
+              filename = DEFAULT_CR_TOKEN_FILENAME2;
+          } else {
+              filename = DEFAULT_CR_TOKEN_FILENAME3;
           }
+
+          // Obtain the file's attributes before reading it, so that a concurrent update of the file
+          // will be detected by the next call.
+          Path path = Paths.get(filename);
+          BasicFileAttributes attrs = readAttributes(path);
+          String crToken = readFile(filename);
+          this.cachedCRToken = (attrs != null ? new CachedCRToken(path, attrs, crToken) : null);
           return crToken;
       } catch (Throwable t) {
           String msg = (t.getMessage() != null ? t.getMessage() : t.getClass().getName());
@@ -405,6 +453,17 @@ public class ContainerAuthenticator extends IamRequestBasedAuthenticator impleme
       }
   }
 
+  /**
+   * Returns the attributes of the specified file, or null if they could not be read.
+   */
+  private static BasicFileAttributes readAttributes(Path path) {
+      try {
+          return Files.readAttributes(path, BasicFileAttributes.class);
+      } catch (IOException | RuntimeException e) {
+          return null;
+      }
+  }
+
   /**
    * Reads a CR token from the specified file and returns it as a String.
    * @param filename the name of the file to read
@@ -425,4 +484,29 @@ public class ContainerAuthenticator extends IamRequestBasedAuthenticator impleme
           throw t;
       }
   }
+
+  /**
+   * A CR token value along with the attributes of the file from which it was read.
+   */
+  private static final class CachedCRToken {
+    final Path path;
+    final long lastModifiedMillis;
+    final long size;
+    final Object fileKey;
+    final String value;
+
+    CachedCRToken(Path path, BasicFileAttributes attrs, String value) {
+      this.path = path;
+      this.lastModifiedMillis = attrs.lastModifiedTime().toMillis();
+      this.size = attrs.size();
+      this.fileKey = attrs.fileKey();
+      this.value = value;
+    }
+
+    boolean matches(BasicFileAttributes attrs) {
+      return attrs.lastModifiedTime().toMillis() == lastModifiedMillis
+          && attrs.size() == size
+          && Objects.equals(attrs.fileKey(), fileKey);
+    }
+  }
 }
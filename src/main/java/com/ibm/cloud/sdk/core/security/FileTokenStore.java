@@ -0,0 +1,324 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.security;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * An encrypted, file-based store for access tokens. It allows short-lived processes (CLI tools, batch jobs, etc.)
+ * to reuse a still-valid access token obtained by an earlier process, rather than fetching a new one at startup.
+ * <p>
+ * The store is enabled for all token request based authenticators that implement
+ * {@link TokenRequestBasedAuthenticatorImmutable#getTokenCacheKey()} by calling
+ * {@link TokenRequestBasedAuthenticatorImmutable#setTokenStore(FileTokenStore)}.
+ * Each token is stored in its own file within the store's directory. The name of the file is a hash of the
+ * authenticator's identity, and its contents are encrypted (AES-GCM) with a key derived from the authenticator's
+ * credentials and the optional secret supplied to the store. The identity of some authenticators (e.g. the VPC and
+ * container authenticators) does not include a credential, so anyone able to read the directory could derive the
+ * key for their tokens; the tokens of those authenticators are only stored if a secret is supplied to the store.
+ * Files are created with owner-only permissions where the file system supports it.
+ * <p>
+ * Processes that share the store coordinate through lock files, so that when a token needs to be fetched
+ * only one process fetches it and the others reuse it.
+ * Errors encountered while using the store never cause an authentication failure: they are logged, and the token
+ * is simply fetched from the token service as usual.
+ */
+public class FileTokenStore {
+  private static final Logger LOG = Logger.getLogger(FileTokenStore.class.getName());
+
+  /**
+   * The default maximum amount of time to wait for another process to finish fetching a token.
+   */
+  public static final long DEFAULT_LOCK_TIMEOUT_MILLIS = 10000;
+
+  private static final String TOKEN_FILE_SUFFIX = ".token";
+  private static final String LOCK_FILE_SUFFIX = ".lock";
+  private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final byte FORMAT_VERSION = 1;
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final long LOCK_POLL_INTERVAL_MILLIS = 50;
+
+  // A file lock is held on behalf of the entire JVM, so threads within this process are serialized separately.
+  private static final ConcurrentMap<String, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final File directory;
+  private final byte[] secret;
+  private final long lockTimeoutMillis;
+
+  /**
+   * Constructs a store that keeps its token files in the specified directory.
+   *
+   * @param directory the directory in which token files are stored (created if necessary)
+   */
+  public FileTokenStore(File directory) {
+    this(directory, null, DEFAULT_LOCK_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * Constructs a store that keeps its token files in the specified directory.
+   *
+   * @param directory the directory in which token files are stored (created if necessary)
+   * @param secret an application-supplied secret that is combined with each authenticator's credentials
+   * to derive the key used to encrypt its token (may be null)
+   * @param lockTimeoutMillis the maximum amount of time to wait for another process to finish fetching a token
+   */
+  public FileTokenStore(File directory, byte[] secret, long lockTimeoutMillis) {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory cannot be null");
+    }
+    this.directory = directory;
+    this.secret = (secret != null) ? secret.clone() : new byte[0];
+    this.lockTimeoutMillis = lockTimeoutMillis;
+  }
+
+  /**
+   * @return true if the store was configured with a secret
+   */
+  boolean hasSecret() {
+    return secret.length > 0;
+  }
+
+  /**
+   * @return the directory in which token files are stored
+   */
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Reads the token stored under the specified name.
+   *
+   * @param name the name of the token (derived from the authenticator's identity)
+   * @param keySource the authenticator's token cache key, from which the encryption key is derived
+   * @return the stored token, or null if there is no stored token or it could not be read
+   */
+  AbstractToken load(String name, String keySource) {
+    try {
+      byte[] data = Files.readAllBytes(tokenFile(name));
+      if (data.length < 1 + IV_LENGTH || data[0] != FORMAT_VERSION) {
+        return null;
+      }
+      Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+      cipher.init(Cipher.DECRYPT_MODE, deriveKey(keySource), new GCMParameterSpec(TAG_LENGTH_BITS, data, 1, IV_LENGTH));
+      cipher.updateAAD(name.getBytes(StandardCharsets.UTF_8));
+      byte[] plaintext = cipher.doFinal(data, 1 + IV_LENGTH, data.length - 1 - IV_LENGTH);
+
+      JsonObject envelope = JsonParser.parseString(new String(plaintext, StandardCharsets.UTF_8)).getAsJsonObject();
+      Class<?> tokenClass = Class.forName(envelope.get("type").getAsString(), false,
+          FileTokenStore.class.getClassLoader());
+      if (!AbstractToken.class.isAssignableFrom(tokenClass)) {
+        return null;
+      }
+      return (AbstractToken) GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(envelope.get("token"), tokenClass);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (Throwable t) {
+      LOG.log(Level.FINE, "Unable to read stored token " + name, t);
+      return null;
+    }
+  }
+
+  /**
+   * Stores the specified token under the specified name, replacing any previously-stored token.
+   *
+   * @param name the name of the token (derived from the authenticator's identity)
+   * @param keySource the authenticator's token cache key, from which the encryption key is derived
+   * @param token the token to store
+   */
+  void save(String name, String keySource, AbstractToken token) {
+    Path tempFile = null;
+    try {
+      JsonObject envelope = new JsonObject();
+      envelope.addProperty("type", token.getClass().getName());
+      envelope.add("token", GsonSingleton.getGsonWithoutPrettyPrinting().toJsonTree(token));
+      byte[] plaintext = envelope.toString().getBytes(StandardCharsets.UTF_8);
+
+      byte[] iv = new byte[IV_LENGTH];
+      RANDOM.nextBytes(iv);
+      Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+      cipher.init(Cipher.ENCRYPT_MODE, deriveKey(keySource), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+      cipher.updateAAD(name.getBytes(StandardCharsets.UTF_8));
+      byte[] ciphertext = cipher.doFinal(plaintext);
+
+      byte[] data = new byte[1 + IV_LENGTH + ciphertext.length];
+      data[0] = FORMAT_VERSION;
+      System.arraycopy(iv, 0, data, 1, IV_LENGTH);
+      System.arraycopy(ciphertext, 0, data, 1 + IV_LENGTH, ciphertext.length);
+
+      // Write to a temporary file (created with owner-only permissions) and then move it into place,
+      // so that readers never see a partially-written file.
+      ensureDirectory();
+      tempFile = Files.createTempFile(directory.toPath(), name, ".tmp");
+      Files.write(tempFile, data);
+      try {
+        Files.move(tempFile, tokenFile(name), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, tokenFile(name), StandardCopyOption.REPLACE_EXISTING);
+      }
+      tempFile = null;
+    } catch (Throwable t) {
+      LOG.log(Level.FINE, "Unable to store token " + name, t);
+    } finally {
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+          LOG.log(Level.FINE, "Unable to delete temporary file " + tempFile, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Acquires the lock associated with the specified token name, which serializes token fetches across
+   * threads and processes. Waits at most the store's lock timeout for the lock to become available.
+   *
+   * @param name the name of the token (derived from the authenticator's identity)
+   * @return the lock, which must be closed to release it, or null if the lock could not be acquired
+   */
+  Lock lock(String name) {
+    ReentrantLock processLock = PROCESS_LOCKS.get(name);
+    if (processLock == null) {
+      ReentrantLock newLock = new ReentrantLock();
+      processLock = PROCESS_LOCKS.putIfAbsent(name, newLock);
+      if (processLock == null) {
+        processLock = newLock;
+      }
+    }
+
+    long deadline = System.currentTimeMillis() + lockTimeoutMillis;
+    FileChannel channel = null;
+    try {
+      if (!processLock.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        LOG.fine("Timed out waiting for token lock " + name);
+        return null;
+      }
+      ensureDirectory();
+      channel = FileChannel.open(new File(directory, name + LOCK_FILE_SUFFIX).toPath(),
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      while (true) {
+        FileLock fileLock = channel.tryLock();
+        if (fileLock != null) {
+          return new Lock(processLock, channel, fileLock);
+        }
+        if (System.currentTimeMillis() >= deadline) {
+          LOG.fine("Timed out waiting for token lock " + name);
+          break;
+        }
+        Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | OverlappingFileLockException e) {
+      LOG.log(Level.FINE, "Unable to acquire token lock " + name, e);
+    }
+
+    // We were unable to acquire the lock.
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        LOG.log(Level.FINE, "Unable to close lock file", e);
+      }
+    }
+    if (processLock.isHeldByCurrentThread()) {
+      processLock.unlock();
+    }
+    return null;
+  }
+
+  private Path tokenFile(String name) {
+    return new File(directory, name + TOKEN_FILE_SUFFIX).toPath();
+  }
+
+  private void ensureDirectory() throws IOException {
+    if (!directory.isDirectory()) {
+      Path path = directory.toPath();
+      if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+        Files.createDirectories(path,
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+      } else {
+        Files.createDirectories(path);
+      }
+    }
+  }
+
+  private SecretKeySpec deriveKey(String keySource) throws GeneralSecurityException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    digest.update("ibm-cloud-sdk-token-store".getBytes(StandardCharsets.UTF_8));
+    digest.update(secret);
+    digest.update(keySource.getBytes(StandardCharsets.UTF_8));
+    return new SecretKeySpec(digest.digest(), "AES");
+  }
+
+  /**
+   * A held token lock; closing it releases both the file lock and the in-process lock.
+   */
+  static final class Lock implements Closeable {
+    private final ReentrantLock processLock;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+
+    Lock(ReentrantLock processLock, FileChannel channel, FileLock fileLock) {
+      this.processLock = processLock;
+      this.channel = channel;
+      this.fileLock = fileLock;
+    }
+
+    @Override
+    public void close() {
+      try {
+        fileLock.release();
+        channel.close();
+      } catch (IOException e) {
+        LOG.log(Level.FINE, "Unable to release token lock", e);
+      } finally {
+        processLock.unlock();
+      }
+    }
+  }
+}
@@ -381,6 +381,27 @@ public class IamAuthenticator extends IamRequestBasedAuthenticator implements Au
     return Authenticator.AUTHTYPE_IAM;
   }
 
+  /**
+   * Returns the token cache key for this authenticator, which consists of
+   * the token service URL, client id/secret, scope and apikey.
+   *
+   * @return the token cache key
+   */
+  @Override
+  protected String getTokenCacheKey() {
+    return buildTokenCacheKey(this.url, this.clientId, this.clientSecret, this.scope, this.apikey);
+  }
+
+  /**
+   * The token cache key includes the apikey or client secret.
+   *
+   * @return true
+   */
+  @Override
+  protected boolean isTokenCacheKeySecret() {
+    return true;
+  }
+
   /**
    * @return the apikey configured on this Authenticator.
    */
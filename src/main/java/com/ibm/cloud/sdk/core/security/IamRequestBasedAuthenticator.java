@@ -41,6 +41,7 @@ public abstract class IamRequestBasedAuthenticator extends IamRequestBasedAuthen
   public void setClientIdAndSecret(String clientId, String clientSecret) {
     this.clientId = clientId;
     this.clientSecret = clientSecret;
+    invalidateTokenCacheKey();
     this.validate();
   }
 
@@ -50,6 +51,7 @@ public abstract class IamRequestBasedAuthenticator extends IamRequestBasedAuthen
    */
   public void setScope(String value) {
     this.scope = value;
+    invalidateTokenCacheKey();
   }
 
   /**
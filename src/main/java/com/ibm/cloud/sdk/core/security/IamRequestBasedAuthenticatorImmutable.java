@@ -93,6 +93,7 @@ public abstract class IamRequestBasedAuthenticatorImmutable
       url = DEFAULT_IAM_URL;
     }
     this.url = url;
+    invalidateTokenCacheKey();
   }
 
 
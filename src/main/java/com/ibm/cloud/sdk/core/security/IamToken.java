@@ -42,7 +42,7 @@ public class IamToken extends AbstractToken implements ObjectModel, TokenServerR
   private Long expiration;
 
   // The remaining fields are computed rather than obtained from operation response.
-  private Long refreshTime;
+  private volatile Long refreshTime;
 
   public IamToken() {
     super();
@@ -102,11 +102,27 @@ public class IamToken extends AbstractToken implements ObjectModel, TokenServerR
    * @return true if token is invalid or past the refresh time, false otherwise
    */
   @Override
-  public synchronized boolean needsRefresh() {
+  public boolean needsRefresh() {
     if (this.getException() != null) {
       return true;
     }
 
+    // Fast path: the refresh time has been computed and has not yet been reached.
+    Long currentRefreshTime = this.refreshTime;
+    if (currentRefreshTime != null && Clock.getCurrentTimeInSeconds() <= currentRefreshTime) {
+      return false;
+    }
+
+    return checkAndAdvanceRefreshTime();
+  }
+
+  /**
+   * Computes the refresh time if necessary, and advances it if it has been reached so that only one caller
+   * is told to refresh the token.
+   *
+   * @return true if the refresh time has been reached
+   */
+  private synchronized boolean checkAndAdvanceRefreshTime() {
     if (this.refreshTime == null && getExpiresIn() != null && this.expiration != null) {
       Double fractionOfTimeToLive = 0.8;
       Long timeToLive = getExpiresIn();
@@ -123,6 +139,19 @@ public class IamToken extends AbstractToken implements ObjectModel, TokenServerR
     return false;
   }
 
+  /**
+   * Returns the time at which the access token should be refreshed (80% of the way through its time-to-live).
+   *
+   * @return the refresh time (# of seconds since epoch time), or null if it is not known
+   */
+  @Override
+  public Long getRefreshTimeInSeconds() {
+    if (this.getException() != null || getExpiresIn() == null || this.expiration == null) {
+      return null;
+    }
+    return this.expiration - (long) (getExpiresIn() * (1.0 - 0.8));
+  }
+
   /**
    * Check if the currently stored access token is valid. This is different from the needsRefresh method in that it
    * uses the actual TTL to calculate the expiration, rather than just a fraction.
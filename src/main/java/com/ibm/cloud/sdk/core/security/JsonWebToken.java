@@ -15,10 +15,15 @@ package com.ibm.cloud.sdk.core.security;
 
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.ibm.cloud.sdk.core.util.GsonSingleton;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Map;
 
@@ -50,6 +55,50 @@ public class JsonWebToken {
     payload = GsonSingleton.getGson().fromJson(json, Payload.class);
   }
 
+  /**
+   * Decodes only the "iat" (Issued At) and "exp" (Expires At) claims from the payload of the specified JWT.
+   * Unlike the JsonWebToken ctor, this method does not decode the header, and it reads the payload
+   * with a streaming parser which skips over the other claims rather than binding the entire payload,
+   * so it is much cheaper when only the token's lifetime is needed.
+   *
+   * @param encodedToken a string representing the encoded JWT
+   * @return the time claims found within the JWT's payload
+   * @throws IllegalArgumentException if the JWT's payload could not be decoded
+   */
+  public static TimeClaims decodeTimeClaims(String encodedToken) {
+    int payloadStart = encodedToken.indexOf('.') + 1;
+    int payloadEnd = encodedToken.indexOf('.', payloadStart);
+    if (payloadStart == 0) {
+      throw new IllegalArgumentException("The encoded JWT does not contain a payload");
+    }
+    if (payloadEnd < 0) {
+      payloadEnd = encodedToken.length();
+    }
+    String json = new String(Base64.getUrlDecoder().decode(encodedToken.substring(payloadStart, payloadEnd)),
+        StandardCharsets.UTF_8);
+
+    Long issuedAt = null;
+    Long expiresAt = null;
+    try (JsonReader reader = new JsonReader(new StringReader(json))) {
+      reader.beginObject();
+      while ((issuedAt == null || expiresAt == null) && reader.hasNext()) {
+        String name = reader.nextName();
+        if (reader.peek() == JsonToken.NULL) {
+          reader.nextNull();
+        } else if ("iat".equals(name)) {
+          issuedAt = reader.nextLong();
+        } else if ("exp".equals(name)) {
+          expiresAt = reader.nextLong();
+        } else {
+          reader.skipValue();
+        }
+      }
+    } catch (IOException | IllegalStateException | NumberFormatException e) {
+      throw new IllegalArgumentException("Unable to parse the payload of the encoded JWT", e);
+    }
+    return new TimeClaims(issuedAt, expiresAt);
+  }
+
   public Map<String, String> getHeader() {
     return header;
   }
@@ -140,5 +189,33 @@ public class JsonWebToken {
       return role;
     }
   }
-}
 
+  /**
+   * The "iat" and "exp" claims decoded from a JWT by {@link JsonWebToken#decodeTimeClaims(String)}.
+   */
+  public static final class TimeClaims {
+    private final Long issuedAt;
+    private final Long expiresAt;
+
+    private TimeClaims(Long issuedAt, Long expiresAt) {
+      this.issuedAt = issuedAt;
+      this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns the "Issued At" ("iat") value within the JWT.
+     * @return the iat value, or null if not present
+     */
+    public Long getIssuedAt() {
+      return issuedAt;
+    }
+
+    /**
+     * Returns the "Expires At" ("exp") value within the JWT.
+     * @return the exp value, or null if not present
+     */
+    public Long getExpiresAt() {
+      return expiresAt;
+    }
+  }
+}
@@ -23,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 public class MCSPToken extends AbstractToken {
   private String accessToken;
   private long expirationTime;
-  private long refreshTime;
+  private volatile long refreshTime;
 
   public MCSPToken() {
     super();
@@ -60,11 +60,11 @@ public class MCSPToken extends AbstractToken {
     this.accessToken = response.getToken();
 
     // To compute the expiration time, we'll need to crack open the accessToken value
-    // which is a JWT (Json Web Token) instance.
-    JsonWebToken jwt = new JsonWebToken(this.accessToken);
+    // which is a JWT (Json Web Token) instance.  Only its "iat" and "exp" claims are needed.
+    JsonWebToken.TimeClaims claims = JsonWebToken.decodeTimeClaims(this.accessToken);
 
-    Long iat = jwt.getPayload().getIssuedAt();
-    Long exp = jwt.getPayload().getExpiresAt();
+    Long iat = claims.getIssuedAt();
+    Long exp = claims.getExpiresAt();
 
     if (iat != null && exp != null) {
       long ttl = exp - iat;
@@ -87,11 +87,11 @@ public class MCSPToken extends AbstractToken {
     this.accessToken = response.getToken();
 
     // To compute the expiration time, we'll need to crack open the accessToken value
-    // which is a JWT (Json Web Token) instance.
-    JsonWebToken jwt = new JsonWebToken(this.accessToken);
+    // which is a JWT (Json Web Token) instance.  Only its "iat" and "exp" claims are needed.
+    JsonWebToken.TimeClaims claims = JsonWebToken.decodeTimeClaims(this.accessToken);
 
-    Long iat = jwt.getPayload().getIssuedAt();
-    Long exp = jwt.getPayload().getExpiresAt();
+    Long iat = claims.getIssuedAt();
+    Long exp = claims.getExpiresAt();
 
     if (iat != null && exp != null) {
       long ttl = exp - iat;
@@ -111,11 +111,27 @@ public class MCSPToken extends AbstractToken {
    * @return true if token is invalid or past the refresh time, false otherwise
    */
   @Override
-  public synchronized boolean needsRefresh() {
+  public boolean needsRefresh() {
     if (this.getException() != null) {
       return true;
     }
 
+    // Fast path: we have an access token whose refresh time has not yet been reached.
+    long currentRefreshTime = this.refreshTime;
+    if (!StringUtils.isEmpty(this.accessToken)
+        && (currentRefreshTime < 0 || Clock.getCurrentTimeInSeconds() <= currentRefreshTime)) {
+      return false;
+    }
+
+    return checkAndAdvanceRefreshTime();
+  }
+
+  /**
+   * Advances the refresh time if it has been reached, so that only one caller is told to refresh the token.
+   *
+   * @return true if the token needs to be refreshed
+   */
+  private synchronized boolean checkAndAdvanceRefreshTime() {
     if (StringUtils.isEmpty(this.accessToken)
         || (this.refreshTime >= 0 && Clock.getCurrentTimeInSeconds() > this.refreshTime)) {
       // Advance refresh time by one minute.
@@ -127,6 +143,12 @@ public class MCSPToken extends AbstractToken {
     return false;
   }
 
+  @Override
+  public Long getRefreshTimeInSeconds() {
+    long currentRefreshTime = this.refreshTime;
+    return (this.getException() == null && currentRefreshTime >= 0) ? currentRefreshTime : null;
+  }
+
   /**
    * Check if the currently stored access token is valid. This is different from the needsRefresh
    * method in that it uses the actual TTL to calculate the expiration, rather than just a fraction.
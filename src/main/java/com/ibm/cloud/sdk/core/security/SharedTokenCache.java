@@ -0,0 +1,91 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The process-wide registry of the token states shared by authenticators with the same identity,
+ * keyed by a fingerprint that includes a hash of the authenticators' token cache key.
+ * <p>
+ * Shared token states whose token has expired (or that never obtained a token) are evicted by a sweep that is
+ * performed, at most once per interval, when an authenticator looks up a shared token state.
+ * Authenticators bound to an evicted state look up (or create) a new state when they next need a token.
+ */
+final class SharedTokenCache {
+  // The interval between sweeps, which is also the time a new state is given to obtain its first token.
+  private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private static final ConcurrentMap<String, TokenState<?>> STATES = new ConcurrentHashMap<>();
+  private static final AtomicLong NEXT_SWEEP = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+  private SharedTokenCache() {
+  }
+
+  /**
+   * Returns the shared token state with the specified fingerprint, creating it if necessary,
+   * and evicts unusable states if the sweep interval has elapsed.
+   *
+   * @param fingerprint the fingerprint of the authenticators' identity; this must include the authenticators'
+   * class, so that the state holds tokens of type T
+   * @return the shared token state
+   */
+  static <T extends AbstractToken> TokenState<T> get(String fingerprint) {
+    TokenState<?> state = STATES.get(fingerprint);
+    if (state == null) {
+      TokenState<?> newState = new TokenState<T>();
+      state = STATES.putIfAbsent(fingerprint, newState);
+      if (state == null) {
+        state = newState;
+      }
+    }
+    sweep();
+
+    @SuppressWarnings("unchecked")
+    TokenState<T> typedState = (TokenState<T>) state;
+    return typedState;
+  }
+
+  /**
+   * Evicts all shared token states.
+   */
+  static void clear() {
+    for (TokenState<?> state : STATES.values()) {
+      state.evict();
+    }
+    STATES.clear();
+  }
+
+  /**
+   * Evicts the shared token states that are no longer usable, if the sweep interval has elapsed since the
+   * previous sweep.
+   */
+  private static void sweep() {
+    long now = System.nanoTime();
+    long next = NEXT_SWEEP.get();
+    if (now - next < 0 || !NEXT_SWEEP.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+      return;
+    }
+    for (Map.Entry<String, TokenState<?>> entry : STATES.entrySet()) {
+      TokenState<?> state = entry.getValue();
+      if (state.isEvictable(now, SWEEP_INTERVAL_NANOS) && STATES.remove(entry.getKey(), state)) {
+        state.evict();
+      }
+    }
+  }
+}
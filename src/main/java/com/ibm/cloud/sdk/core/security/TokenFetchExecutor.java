@@ -0,0 +1,143 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the process-wide executor on which token request based authenticators interact with their token services
+ * (see {@link TokenRequestBasedAuthenticatorImmutable#setTokenFetchExecutor(Executor)}), and runs tasks on it.
+ */
+final class TokenFetchExecutor {
+  private static final Logger LOG = Logger.getLogger(TokenRequestBasedAuthenticatorImmutable.class.getName());
+
+  // The executor used to interact with token services (null means the default executor has not yet been created).
+  private static Executor executor;
+
+  // Set while a task is running on the token fetch executor, so that nested token requests made by that task
+  // (e.g. a background refresh, or a delegate authenticator's token fetch) are invoked directly on the same thread
+  // rather than waiting for another executor thread.
+  private static final ThreadLocal<Boolean> ON_TOKEN_FETCH_THREAD = new ThreadLocal<>();
+
+  private TokenFetchExecutor() {
+  }
+
+  /**
+   * Returns the token fetch executor, creating the default executor if none has been set.
+   * The default executor is a pool of daemon threads that hands each task directly to an idle thread
+   * and rejects it when there is none.
+   *
+   * @return the token fetch executor
+   */
+  static synchronized Executor get() {
+    if (executor == null) {
+      int threads = TokenRequestBasedAuthenticatorImmutable.DEFAULT_TOKEN_FETCH_THREADS;
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+          new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+              Thread thread = new Thread(r, "ibm-cloud-sdk-token-fetch-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+      pool.allowCoreThreadTimeOut(true);
+      executor = pool;
+    }
+    return executor;
+  }
+
+  /**
+   * Sets the token fetch executor.
+   *
+   * @param newExecutor the executor to use, or null to revert to the default executor
+   */
+  static synchronized void set(Executor newExecutor) {
+    executor = newExecutor;
+  }
+
+  /**
+   * Submits the specified task to the token fetch executor.
+   *
+   * @param task the task to run
+   * @throws RejectedExecutionException if the executor rejects the task
+   */
+  static void execute(Runnable task) {
+    get().execute(markedAsFetchTask(task));
+  }
+
+  /**
+   * Invokes the specified callable on the token fetch executor and waits for its result.
+   * If the current thread is already running a task on the token fetch executor, or the executor rejects the task,
+   * the callable is invoked directly on the current thread.
+   *
+   * @param callable the callable to invoke
+   * @return the result of the callable
+   * @throws Throwable the exception thrown by the callable, or InterruptedException if the current thread
+   * was interrupted while waiting
+   */
+  static <V> V call(Callable<V> callable) throws Throwable {
+    if (Boolean.TRUE.equals(ON_TOKEN_FETCH_THREAD.get())) {
+      return callable.call();
+    }
+
+    FutureTask<V> task = new FutureTask<>(callable);
+    try {
+      execute(task);
+    } catch (RejectedExecutionException e) {
+      LOG.log(Level.FINE, "Token fetch executor rejected the request; invoking it on the current thread", e);
+      task.run();
+    }
+
+    try {
+      return task.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    } catch (InterruptedException e) {
+      task.cancel(true);
+      Thread.currentThread().interrupt();
+      throw e;
+    }
+  }
+
+  /**
+   * Wraps the specified task so that it is marked as running on the token fetch executor.
+   */
+  private static Runnable markedAsFetchTask(final Runnable task) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        ON_TOKEN_FETCH_THREAD.set(Boolean.TRUE);
+        try {
+          task.run();
+        } finally {
+          ON_TOKEN_FETCH_THREAD.remove();
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.security;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.cloud.sdk.core.util.Clock;
+
+/**
+ * Schedules the proactive refreshes of tokens. A single daemon thread (created when first needed) triggers
+ * each refresh shortly before the token's refresh time, with a random jitter so that many authenticators
+ * do not refresh at the same moment; the refresh itself is performed on the token fetch executor.
+ */
+final class TokenRefreshScheduler {
+  private static final Logger LOG = Logger.getLogger(TokenRequestBasedAuthenticatorImmutable.class.getName());
+
+  // The fraction of the time remaining until a token's refresh time that is used as the maximum jitter
+  // when scheduling a proactive refresh (i.e. the refresh occurs within the last 10% of that time).
+  private static final double REFRESH_JITTER_FRACTION = 0.1;
+
+  private static ScheduledExecutorService scheduler;
+
+  private TokenRefreshScheduler() {
+  }
+
+  /**
+   * Schedules a proactive refresh of the specified state's token, replacing any previously-scheduled refresh.
+   * Nothing is scheduled if the state has been evicted, if the token does not have a refresh time, or if it is
+   * already due for a refresh (in which case the next call to getToken() will refresh it).
+   *
+   * @param state the token state
+   * @param token the token that was just obtained
+   */
+  static void schedule(TokenState<?> state, AbstractToken token) {
+    Long refreshTime = (token != null) ? token.getRefreshTimeInSeconds() : null;
+    long delay = (refreshTime != null) ? refreshTime - Clock.getCurrentTimeInSeconds() : 0;
+    synchronized (state) {
+      if (state.evicted) {
+        return;
+      }
+      if (state.scheduledRefresh != null) {
+        state.scheduledRefresh.cancel(false);
+        state.scheduledRefresh = null;
+      }
+      if (delay > 0) {
+        delay -= ThreadLocalRandom.current().nextLong((long) (delay * REFRESH_JITTER_FRACTION) + 1);
+        if (LOG.isLoggable(Level.FINE)) {
+          LOG.fine(String.format("Scheduling proactive token refresh in %d seconds", delay));
+        }
+        state.scheduledRefresh = getScheduler().schedule(new ScheduledRefresh(state), delay, TimeUnit.SECONDS);
+      }
+    }
+  }
+
+  private static synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "ibm-cloud-sdk-token-refresh-scheduler");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      executor.setRemoveOnCancelPolicy(true);
+      scheduler = executor;
+    }
+    return scheduler;
+  }
+
+  /**
+   * The scheduled task that triggers a proactive refresh. It is bound to the token state rather than to the
+   * authenticator that scheduled it, so the refresh is performed as long as any authenticator still uses the state.
+   * It holds only a weak reference to the state, so a pending refresh does not keep an otherwise unused state
+   * (or its authenticators) alive.
+   */
+  private static class ScheduledRefresh implements Runnable {
+    private final WeakReference<TokenState<?>> state;
+
+    ScheduledRefresh(TokenState<?> state) {
+      this.state = new WeakReference<TokenState<?>>(state);
+    }
+
+    @Override
+    public void run() {
+      TokenState<?> s = state.get();
+      if (s != null) {
+        s.refreshInBackground();
+      }
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /**
- * (C) Copyright IBM Corp. 2024, 2025.
+ * (C) Copyright IBM Corp. 2024, 2026.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -20,6 +20,7 @@ import com.ibm.cloud.sdk.core.http.HttpHeaders;
 import com.ibm.cloud.sdk.core.http.RequestBuilder;
 import com.ibm.cloud.sdk.core.http.ResponseConverter;
 import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.util.Clock;
 import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
 import okhttp3.Call;
 import okhttp3.OkHttpClient;
@@ -27,9 +28,17 @@ import okhttp3.Request;
 import okhttp3.Request.Builder;
 
 import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,12 +55,45 @@ import java.util.logging.Logger;
  * interact with the token service.
  * <li>client - a fully-configured OkHttpClient instance to be used to interact with the token service.
  * </ul>
+ * <p>
+ * Interactions with the token service (both synchronous token fetches and background token refreshes) are
+ * performed by a process-wide executor shared by all authenticators.
+ * By default this is a bounded pool of daemon threads named "ibm-cloud-sdk-token-fetch-N" that never queues work:
+ * when all of its threads are busy, a synchronous token fetch is performed on the calling thread instead, so that
+ * authenticators do not wait for each other's (possibly slow) token services.
+ * An application can supply its own executor (e.g. one that uses virtual threads)
+ * via {@link #setTokenFetchExecutor(Executor)}.
+ * <p>
+ * If proactive token refresh is enabled via {@link #setProactiveTokenRefreshEnabled(boolean)}, each authenticator
+ * also schedules a background refresh of its access token shortly before the token's refresh time (with a random
+ * jitter so that many authenticators do not refresh at the same moment). This allows an authenticator that has been
+ * idle to continue using a valid token, rather than blocking while a new token is fetched.
+ * <p>
+ * If the shared token cache is enabled via {@link #setSharedTokenCacheEnabled(boolean)}, authenticators with
+ * the same identity share a single access token (and a single refresh schedule).
+ * <p>
+ * If a token store is configured via {@link #setTokenStore(FileTokenStore)}, tokens are also persisted
+ * (encrypted) in the file system so that they can be reused by later processes.
  */
 public abstract class TokenRequestBasedAuthenticatorImmutable<T extends AbstractToken, R extends TokenServerResponse>
   extends AuthenticatorBase implements Authenticator {
 
   private static final Logger LOG = Logger.getLogger(TokenRequestBasedAuthenticatorImmutable.class.getName());
 
+  /**
+   * The maximum number of threads in the default token fetch executor.
+   */
+  public static final int DEFAULT_TOKEN_FETCH_THREADS = 4;
+
+  // The proactive token refresh setting (the refreshes are triggered by TokenRefreshScheduler).
+  private static volatile boolean proactiveTokenRefreshEnabled;
+
+  // The shared token cache setting (the shared token states themselves are held by SharedTokenCache).
+  private static volatile boolean sharedTokenCacheEnabled;
+
+  // The store used to persist tokens across processes (null if tokens are not persisted).
+  private static volatile FileTokenStore tokenStore;
+
   protected OkHttpClient client;
   protected String userAgent;
 
@@ -66,10 +108,416 @@ public abstract class TokenRequestBasedAuthenticatorImmutable<T extends Abstract
   private List<Object> cachedUserHeaders = null;
 
   // The object which holds the data returned by the token service.
-  protected T tokenData = null;
+  // This is the most recent token obtained by this authenticator; the token that is actually used is held by
+  // the authenticator's token state (see getTokenState()), which may be shared with other authenticators.
+  protected volatile T tokenData = null;
 
-  private void setTokenData(T tokenData) {
+  // The token state used when the shared token cache is not in use.
+  private final TokenState<T> localTokenState = new TokenState<>();
+
+  // The token state to which this authenticator is bound while the shared token cache is enabled: either a shared
+  // state or (if the authenticator has no token cache key) its local state. This is cleared when the authenticator's
+  // token cache key might have changed, and is replaced if the shared state is evicted.
+  private volatile TokenState<T> boundTokenState;
+
+  private void setTokenData(TokenState<T> state, T tokenData) {
+    state.token = tokenData;
     this.tokenData = tokenData;
+    if (proactiveTokenRefreshEnabled) {
+      scheduleRefresh(state, tokenData);
+    }
+  }
+
+  /**
+   * Returns true if the shared token cache is enabled.
+   *
+   * @return true if the shared token cache is enabled
+   */
+  public static boolean isSharedTokenCacheEnabled() {
+    return sharedTokenCacheEnabled;
+  }
+
+  /**
+   * Enables or disables the process-wide shared token cache.
+   * When enabled, authenticators that have the same identity (as determined by {@link #getTokenCacheKey()},
+   * e.g. the same authentication type, token service URL, apikey, trusted profile and scope) share a single
+   * access token, so the token is fetched and refreshed once rather than once per authenticator.
+   * Only authenticators that implement {@link #getTokenCacheKey()} participate in the shared cache.
+   * The shared token cache is disabled by default.
+   *
+   * @param enabled true to enable the shared token cache
+   */
+  public static void setSharedTokenCacheEnabled(boolean enabled) {
+    sharedTokenCacheEnabled = enabled;
+  }
+
+  /**
+   * Removes all tokens from the shared token cache.
+   */
+  public static void clearSharedTokenCache() {
+    SharedTokenCache.clear();
+  }
+
+  /**
+   * Returns a string that identifies the credentials used by this authenticator to obtain access tokens.
+   * Authenticators of the same class whose keys are equal are considered to have the same identity,
+   * and share their access token if the shared token cache is enabled.
+   * The key may contain secrets (it is never stored in the shared cache itself, only a hash of it).
+   * The default implementation returns null, which means that the authenticator never shares its token.
+   * <p>
+   * The key is computed when the authenticator first uses the shared token cache, and is then reused.
+   * A subclass that changes a property included in its key must call {@link #invalidateTokenCacheKey()}.
+   *
+   * @return the token cache key, or null if this authenticator's token should not be shared
+   */
+  protected String getTokenCacheKey() {
+    return null;
+  }
+
+  /**
+   * Returns true if the token cache key returned by {@link #getTokenCacheKey()} includes a credential
+   * (e.g. an apikey or password) that is not known to others. The token store encrypts stored tokens with a key
+   * derived from the token cache key, so it persists the tokens of an authenticator whose key does not include
+   * a credential only if the store was configured with a secret.
+   * The default implementation returns false.
+   *
+   * @return true if the token cache key includes a credential
+   */
+  protected boolean isTokenCacheKeySecret() {
+    return false;
+  }
+
+  /**
+   * Indicates that the value returned by {@link #getTokenCacheKey()} might have changed, so that the authenticator
+   * looks up its shared token state again the next time it needs a token.
+   * This should be called by each method that changes a property included in the token cache key.
+   */
+  protected void invalidateTokenCacheKey() {
+    this.boundTokenState = null;
+  }
+
+  /**
+   * Builds a token cache key from the specified components (null components are allowed).
+   *
+   * @param components the values that identify an authenticator's credentials
+   * @return the token cache key
+   */
+  protected static String buildTokenCacheKey(Object... components) {
+    StringBuilder sb = new StringBuilder();
+    for (Object component : components) {
+      String value = (component != null) ? component.toString() : "";
+      // Prefix each component with its length so that the key is unambiguous.
+      sb.append(component != null ? value.length() : -1).append(':').append(value).append(';');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the token state to be used by this authenticator: the shared state associated with the
+   * authenticator's token cache key if the shared token cache is enabled, or the authenticator's own state.
+   * Once the authenticator is bound to a state, this requires only a couple of volatile reads.
+   */
+  private TokenState<T> getTokenState() {
+    if (!sharedTokenCacheEnabled) {
+      return this.localTokenState;
+    }
+    TokenState<T> bound = this.boundTokenState;
+    if (bound != null && !bound.evicted) {
+      return bound;
+    }
+
+    String key = getTokenCacheKey();
+    TokenState<T> state = (key != null)
+        ? SharedTokenCache.<T>get(getTokenCacheFingerprint(key)) : this.localTokenState;
+    state.addUser(this);
+    this.boundTokenState = state;
+    return state;
+  }
+
+  /**
+   * Returns a fingerprint of this authenticator's identity, derived from its class, authentication type
+   * and token cache key. The fingerprint does not reveal the contents of the key.
+   */
+  private String getTokenCacheFingerprint(String key) {
+    return authenticationType() + "-" + sha256Hex(getClass().getName() + "\n" + key);
+  }
+
+  /**
+   * Returns the token store used by token request based authenticators to persist their tokens.
+   *
+   * @return the token store, or null if tokens are not persisted
+   */
+  public static FileTokenStore getTokenStore() {
+    return tokenStore;
+  }
+
+  /**
+   * Sets the token store used by all token request based authenticators to persist their tokens, so that
+   * a still-valid token can be reused by later processes. Only authenticators that implement
+   * {@link #getTokenCacheKey()} use the token store. By default, tokens are not persisted.
+   *
+   * @param store the token store, or null to disable the persistence of tokens
+   */
+  public static void setTokenStore(FileTokenStore store) {
+    tokenStore = store;
+  }
+
+  /**
+   * Obtains a new token from the token service. If a token store is configured, a token stored by another process
+   * is reused if it is still valid and not yet due for a refresh; otherwise the token is fetched while holding the
+   * store's lock for this authenticator's identity (so that concurrent processes fetch it only once)
+   * and is then saved in the store.
+   * A background (or proactive) refresh always fetches a new token, since it may be performed before the
+   * current token's refresh time, at which point the stored token would be the very token being refreshed.
+   *
+   * @param reuseStoredToken true if a token stored by another process may be returned
+   * @return the token object
+   */
+  @SuppressWarnings("unchecked")
+  private T requestTokenUsingStore(boolean reuseStoredToken) {
+    FileTokenStore store = tokenStore;
+    String key = (store != null) ? getTokenCacheKey() : null;
+    if (key == null) {
+      return requestToken();
+    }
+    if (!store.hasSecret() && !isTokenCacheKeySecret()) {
+      // Anyone could derive the encryption key for this authenticator's token, so don't persist it.
+      LOG.fine("Not using the token store: the token cache key contains no credential and the store has no secret");
+      return requestToken();
+    }
+
+    // The name includes the authenticator's class, so a stored token is of type T.
+    String name = getTokenCacheFingerprint(key);
+    if (!reuseStoredToken) {
+      T token = requestToken();
+      if (token != null && token.getException() == null) {
+        store.save(name, key, token);
+      }
+      return token;
+    }
+
+    AbstractToken stored = store.load(name, key);
+    if (isReusable(stored)) {
+      LOG.fine("Using stored access token...");
+      return (T) stored;
+    }
+
+    FileTokenStore.Lock lock = store.lock(name);
+    try {
+      if (lock != null) {
+        // Another process may have stored a new token while we were waiting for the lock.
+        stored = store.load(name, key);
+        if (isReusable(stored)) {
+          LOG.fine("Using stored access token...");
+          return (T) stored;
+        }
+      }
+      T token = requestToken();
+      if (token != null && token.getException() == null) {
+        store.save(name, key, token);
+      }
+      return token;
+    } finally {
+      if (lock != null) {
+        lock.close();
+      }
+    }
+  }
+
+  private static boolean isReusable(AbstractToken token) {
+    if (token == null || token.getException() != null || !token.isTokenValid()) {
+      return false;
+    }
+    Long refreshTime = token.getRefreshTimeInSeconds();
+    return refreshTime == null || Clock.getCurrentTimeInSeconds() < refreshTime;
+  }
+
+  private static String sha256Hex(String s) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+      StringBuilder sb = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * @return true if the specified token state is the one currently used by this authenticator
+   */
+  boolean usesTokenState(TokenState<?> state) {
+    return state == this.localTokenState || state == this.boundTokenState;
+  }
+
+  /**
+   * Returns true if proactive (scheduled) token refresh is enabled.
+   *
+   * @return true if proactive token refresh is enabled
+   */
+  public static boolean isProactiveTokenRefreshEnabled() {
+    return proactiveTokenRefreshEnabled;
+  }
+
+  /**
+   * Enables or disables proactive token refresh for all token request based authenticators.
+   * When enabled, each time an authenticator obtains a new access token it schedules a background refresh
+   * for shortly before the token's refresh time, so that request threads do not need to wait for a new token
+   * to be fetched. Proactive refresh is disabled by default.
+   * The setting applies to tokens obtained after it is changed.
+   *
+   * @param enabled true to enable proactive token refresh
+   */
+  public static void setProactiveTokenRefreshEnabled(boolean enabled) {
+    proactiveTokenRefreshEnabled = enabled;
+  }
+
+  /**
+   * Schedules a proactive refresh of the specified token, replacing any previously-scheduled refresh.
+   *
+   * @param token the token that was just obtained
+   */
+  private void scheduleRefresh(TokenState<T> state, T token) {
+    state.addUser(this);
+    TokenRefreshScheduler.schedule(state, token);
+  }
+
+  /**
+   * Starts a token fetch on the token fetch executor, unless a fetch is already in progress.
+   *
+   * @param state the token state to be updated
+   * @param keepValidTokenOnFailure true if the current token should be retained if the fetch fails
+   * and the current token is still valid
+   */
+  void startBackgroundFetch(final TokenState<T> state, final boolean keepValidTokenOnFailure) {
+    if (state.pendingFetch.get() != null) {
+      return;
+    }
+    final CompletableFuture<T> fetch = new CompletableFuture<>();
+    if (!state.pendingFetch.compareAndSet(null, fetch)) {
+      return;
+    }
+    try {
+      TokenFetchExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          performFetch(state, fetch, keepValidTokenOnFailure);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // The current token is still valid, so the refresh will simply be attempted again later.
+      LOG.log(Level.FINE, "Token fetch executor rejected the background token refresh", e);
+      state.pendingFetch.compareAndSet(fetch, null);
+      fetch.complete(state.token);
+    }
+  }
+
+  /**
+   * Performs the specified token fetch on the current thread, stores the resulting token and then
+   * completes the fetch.
+   *
+   * @param state the token state to be updated
+   * @param fetch the fetch to perform, which must be the current pending fetch
+   * @param keepValidTokenOnFailure true if the current token should be retained if the fetch fails
+   * and the current token is still valid
+   */
+  private void performFetch(TokenState<T> state, CompletableFuture<T> fetch, boolean keepValidTokenOnFailure) {
+    try {
+      // A stored token is reused only by a synchronous fetch (i.e. when the current token is unusable).
+      T newToken = requestTokenUsingStore(!keepValidTokenOnFailure);
+      T current = state.token;
+      boolean failed = newToken == null || newToken.getException() != null;
+      if (keepValidTokenOnFailure && failed && current != null && current.isTokenValid()) {
+        // Keep serving the current token until it expires, and retry the refresh after a backoff delay.
+        long delay = state.recordRefreshFailure();
+        LOG.log(Level.WARNING, String.format(
+            "Background token refresh failed; continuing to use the current access token (retry in %d s)", delay),
+            newToken != null ? newToken.getException() : null);
+        newToken = current;
+      } else {
+        if (!failed) {
+          state.resetRefreshFailures();
+        }
+        setTokenData(state, newToken);
+      }
+      state.pendingFetch.compareAndSet(fetch, null);
+      fetch.complete(newToken);
+    } catch (Throwable t) {
+      state.pendingFetch.compareAndSet(fetch, null);
+      fetch.completeExceptionally(t);
+    }
+  }
+
+  /**
+   * Returns a valid token, fetching a new one if necessary. If a fetch is already in progress,
+   * the calling thread waits for its result; otherwise the calling thread performs the fetch.
+   *
+   * @param state the token state to be updated
+   * @return the token object
+   */
+  private T fetchToken(TokenState<T> state) {
+    CompletableFuture<T> fetch = new CompletableFuture<>();
+    CompletableFuture<T> existing;
+    while (true) {
+      existing = state.pendingFetch.get();
+      if (existing != null) {
+        break;
+      }
+      // A fetch may have completed since the caller last looked at the token.
+      T current = state.token;
+      if (current != null && current.isTokenValid()) {
+        return current;
+      }
+      if (state.pendingFetch.compareAndSet(null, fetch)) {
+        performFetch(state, fetch, false);
+        existing = fetch;
+        break;
+      }
+    }
+
+    try {
+      return existing.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(ERRORMSG_REQ_FAILED, cause);
+    }
+  }
+
+  /**
+   * Returns the executor used by all token request based authenticators to interact with their token services.
+   * If an executor has not been set via {@link #setTokenFetchExecutor(Executor)}, a default executor is created:
+   * a pool of at most {@link #DEFAULT_TOKEN_FETCH_THREADS} daemon threads that are discarded when idle.
+   * The default executor hands each task directly to an idle thread and rejects it when there is none, so a
+   * synchronous token fetch never waits behind other authenticators' fetches: it is performed on the calling
+   * thread instead. A background refresh that is rejected is attempted again when the token is next used.
+   *
+   * @return the token fetch executor
+   */
+  public static Executor getTokenFetchExecutor() {
+    return TokenFetchExecutor.get();
+  }
+
+  /**
+   * Sets the executor to be used by all token request based authenticators to interact with their token services.
+   * Each synchronous token fetch is submitted to the executor and the calling thread waits for its completion,
+   * while background token refreshes are simply submitted to the executor.
+   * On Java 21 or later, an application could use "Executors.newVirtualThreadPerTaskExecutor()", for example.
+   * An executor that queues tasks makes each synchronous token fetch wait for the fetches queued before it
+   * (including those of unrelated authenticators); an executor that rejects tasks when it is busy causes
+   * synchronous fetches to be performed on the calling thread instead.
+   * The executor is not shut down by the SDK.
+   *
+   * @param executor the executor to use, or null to revert to the default executor
+   */
+  public static void setTokenFetchExecutor(Executor executor) {
+    TokenFetchExecutor.set(executor);
   }
 
   /**
@@ -220,10 +668,13 @@ public abstract class TokenRequestBasedAuthenticatorImmutable<T extends Abstract
    */
   @Override
   public void authenticate(Builder builder) {
-    String headerValue = constructBearerTokenAuthHeader(getToken());
+    // The header value is cached within the token object, so it is constructed only once per token.
+    String headerValue = getValidToken().getAuthorizationHeader();
     if (headerValue != null) {
       builder.header(HttpHeaders.AUTHORIZATION, headerValue);
-      LOG.fine(String.format("Authenticated outbound request (type=%s)", this.authenticationType()));
+      if (LOG.isLoggable(Level.FINE)) {
+        LOG.fine(String.format("Authenticated outbound request (type=%s)", this.authenticationType()));
+      }
     }
   }
 
@@ -235,65 +686,57 @@ public abstract class TokenRequestBasedAuthenticatorImmutable<T extends Abstract
   public abstract T requestToken();
 
   /**
-   * Calls the extending class' requestToken implementation in a synchronized way. The requestToken implementation
-   * will not be called if the stored token has been made valid since this method's initial call.
+   * This function returns the access token fetched from the token service.
+   * If no token currently exists or the current token has expired, a new token is fetched from the token service.
+   * If the current token is valid but should be refreshed, a new token is fetched in the background.
+   * If that background refresh fails, the current token continues to be returned until it expires
+   * (while the refresh is retried with exponential backoff); only then is the error reported.
+   * At most one token fetch is in progress at any time.
    *
-   * @return the token object
+   * @return the access token
    */
-  private synchronized T synchronizedRequestToken() {
-    if (this.tokenData != null && this.tokenData.isTokenValid()) {
-      return this.tokenData;
-    }
-
-    return requestToken();
+  public String getToken() {
+    return getValidToken().getAccessToken();
   }
 
   /**
-   * This function returns the access token fetched from the token service.
-   * If no token currently exists or the current token has expired, a new token is fetched from the token service.
+   * Returns the current token object, fetching or refreshing it as described in {@link #getToken()}.
    *
-   * @return the access token
+   * @return the token object
    */
-  public String getToken() {
-    String token;
+  private T getValidToken() {
+    TokenState<T> state = getTokenState();
+    T current = state.token;
 
-    if (this.tokenData == null || !this.tokenData.isTokenValid()) {
+    if (current == null || !current.isTokenValid()) {
       LOG.fine("Performing synchronous token fetch...");
-      setTokenData(synchronizedRequestToken());
-    } else if (this.tokenData.needsRefresh()) {
+      current = fetchToken(state);
+    } else if (state.isRefreshRetryDue() || current.needsRefresh()) {
       LOG.fine("Performing background asynchronous token fetch...");
       // Kick off background task to refresh token.
-      Thread updateTokenCall = new Thread(new Runnable() {
-        @Override
-        public void run() {
-          setTokenData(requestToken());
-        }
-      });
-      updateTokenCall.start();
+      // If the refresh fails, the current token continues to be used until it expires.
+      startBackgroundFetch(state, true);
     } else {
       LOG.fine("Using cached access token...");
     }
 
     // Make sure we have a non-null tokenData object.
     // This should not occur, but just in case it does... :)
-    if (this.tokenData == null) {
+    if (current == null) {
       throw new RuntimeException(ERRORMSG_REQ_FAILED + " illegal state: token object not available");
     }
 
     // Check to see if an exception occurred during our last interaction with the token service.
-    if (this.tokenData.getException() != null) {
-        Throwable t = tokenData.getException();
-        if (t instanceof RuntimeException) {
-          throw (RuntimeException) t;
-        } else {
-          throw new RuntimeException(ERRORMSG_REQ_FAILED, tokenData.getException());
-        }
+    if (current.getException() != null) {
+      Throwable t = current.getException();
+      if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      } else {
+        throw new RuntimeException(ERRORMSG_REQ_FAILED, t);
       }
+    }
 
-    // Return the access token from our stored tokenData object.
-    token = tokenData.getAccessToken();
-
-    return token;
+    return current;
   }
 
   /**
@@ -306,7 +749,6 @@ public abstract class TokenRequestBasedAuthenticatorImmutable<T extends Abstract
    * @return an instance of the response class R
    * @throws Throwable an error occurred when invoking a token request
    */
-  @SuppressWarnings("unchecked")
   protected R invokeRequest(final RequestBuilder requestBuilder, final Class<? extends R> responseClass)
       throws Throwable {
 
@@ -315,49 +757,25 @@ public abstract class TokenRequestBasedAuthenticatorImmutable<T extends Abstract
       requestBuilder.header(this.cachedUserHeaders.toArray());
     }
 
-    // Allocate the response.
-    final Object[] responseObj = new Object[1];
-
     final OkHttpClient client = getConfiguredClient();
 
     final Request request = requestBuilder.build();
 
-    Thread restCall = new Thread(new Runnable() {
+    return TokenFetchExecutor.call(new Callable<R>() {
       @Override
-      public void run() {
+      public R call() throws Exception {
         Call call = client.newCall(request);
         ResponseConverter<R> converter = ResponseConverterUtils.getObject(responseClass);
 
-        try {
-          okhttp3.Response response = call.execute();
-
-          // handle possible errors
-          if (response.code() >= 400) {
-            throw new ServiceResponseException(response.code(), response);
-          }
+        okhttp3.Response response = call.execute();
 
-          // Store the API response so that we can pass it back to the main thread.
-          responseObj[0] = converter.convert(response);
-        } catch (Throwable t) {
-
-          // Store the exception so that we can pass it back to the main thread.
-          responseObj[0] = t;
+        // handle possible errors
+        if (response.code() >= 400) {
+          throw new ServiceResponseException(response.code(), response);
         }
+
+        return converter.convert(response);
       }
     });
-
-    restCall.start();
-    try {
-      restCall.join();
-    } catch (Throwable t) {
-      responseObj[0] = t;
-    }
-
-    // Check to see if we need to throw an exception now that we're back on the main thread.
-    if (responseObj[0] instanceof Throwable) {
-      throw (Throwable) responseObj[0];
-    }
-
-    return (R) responseObj[0];
   }
 }
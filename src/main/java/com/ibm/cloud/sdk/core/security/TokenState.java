@@ -0,0 +1,166 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.security;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import com.ibm.cloud.sdk.core.util.Clock;
+
+/**
+ * The token-related state of an authenticator (or of a group of authenticators sharing a token):
+ * the current token, the token fetch in progress, the scheduled proactive refresh and the backoff
+ * of failed background refreshes.
+ *
+ * @param <T> the type of token held by the state
+ */
+final class TokenState<T extends AbstractToken> {
+  private static final Logger LOG = Logger.getLogger(TokenRequestBasedAuthenticatorImmutable.class.getName());
+
+  // The delays used when retrying a failed background refresh: the delay starts at 1 second
+  // and doubles after each consecutive failure, up to 1 minute.
+  private static final long INITIAL_REFRESH_RETRY_DELAY_SECONDS = 1;
+  private static final long MAX_REFRESH_RETRY_DELAY_SECONDS = 60;
+
+  // The current token. This is an immutable snapshot (as far as the authenticator is concerned) that is
+  // replaced as a whole when a new token is obtained, so reading the current token requires only a volatile read.
+  volatile T token;
+
+  // The token fetch that is currently in progress, if any. At most one fetch is performed at a time;
+  // threads that need a token while a fetch is in progress wait for (and share) its result.
+  final AtomicReference<CompletableFuture<T>> pendingFetch = new AtomicReference<>();
+
+  // The pending proactive refresh of the current token, if any (guarded by "this").
+  ScheduledFuture<?> scheduledRefresh;
+
+  // The authenticators that use this state, any of which can perform a proactive refresh of its token.
+  // These are weak references, so that the state does not keep otherwise unused authenticators alive.
+  private final List<WeakReference<TokenRequestBasedAuthenticatorImmutable<T, ?>>> users =
+      new CopyOnWriteArrayList<>();
+
+  // Set when a shared state has been removed from the shared token cache.
+  volatile boolean evicted;
+
+  // The time (from System.nanoTime()) at which the state was created.
+  private final long createdNanos = System.nanoTime();
+
+  // The number of consecutive failed background refreshes, and the time (in seconds since epoch time, from Clock
+  // like the token's own times) after which the next refresh should be attempted. These are only updated by the
+  // thread performing the (single) pending fetch.
+  private volatile int refreshFailures;
+  private volatile long nextRefreshRetryTime;
+
+  /**
+   * Records that the specified authenticator uses this state.
+   */
+  void addUser(TokenRequestBasedAuthenticatorImmutable<T, ?> authenticator) {
+    for (WeakReference<TokenRequestBasedAuthenticatorImmutable<T, ?>> ref : users) {
+      TokenRequestBasedAuthenticatorImmutable<T, ?> user = ref.get();
+      if (user == null) {
+        users.remove(ref);
+      } else if (user == authenticator) {
+        return;
+      }
+    }
+    users.add(new WeakReference<TokenRequestBasedAuthenticatorImmutable<T, ?>>(authenticator));
+  }
+
+  /**
+   * Returns an authenticator that is still using this state, or null if there is none.
+   */
+  TokenRequestBasedAuthenticatorImmutable<T, ?> findUser() {
+    for (WeakReference<TokenRequestBasedAuthenticatorImmutable<T, ?>> ref : users) {
+      TokenRequestBasedAuthenticatorImmutable<T, ?> user = ref.get();
+      if (user == null) {
+        users.remove(ref);
+      } else if (user.usesTokenState(this)) {
+        return user;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Performs a proactive refresh of the token, using any authenticator that still uses this state.
+   */
+  void refreshInBackground() {
+    TokenRequestBasedAuthenticatorImmutable<T, ?> user = evicted ? null : findUser();
+    if (user != null) {
+      LOG.fine("Performing proactive token refresh...");
+      user.startBackgroundFetch(this, true);
+    }
+  }
+
+  /**
+   * Returns true if the state is not in use by a fetch and holds no usable token.
+   *
+   * @param nowNanos the current time (from System.nanoTime())
+   * @param minAgeNanos the time that a state which has never obtained a token is given to obtain its first token
+   * @return true if the state can be evicted from the shared token cache
+   */
+  boolean isEvictable(long nowNanos, long minAgeNanos) {
+    if (pendingFetch.get() != null) {
+      return false;
+    }
+    T current = this.token;
+    if (current == null) {
+      return nowNanos - createdNanos > minAgeNanos;
+    }
+    return !current.isTokenValid();
+  }
+
+  /**
+   * Marks the state as evicted and cancels its scheduled refresh.
+   */
+  synchronized void evict() {
+    evicted = true;
+    if (scheduledRefresh != null) {
+      scheduledRefresh.cancel(false);
+      scheduledRefresh = null;
+    }
+  }
+
+  /**
+   * Records a failed background refresh and computes the time of the next attempt, using exponential backoff.
+   *
+   * @return the delay (in seconds) until the next attempt
+   */
+  long recordRefreshFailure() {
+    int failures = this.refreshFailures + 1;
+    this.refreshFailures = failures;
+    long delay = Math.min(MAX_REFRESH_RETRY_DELAY_SECONDS,
+        INITIAL_REFRESH_RETRY_DELAY_SECONDS << Math.min(failures - 1, 16));
+    this.nextRefreshRetryTime = Clock.getCurrentTimeInSeconds() + delay;
+    return delay;
+  }
+
+  void resetRefreshFailures() {
+    if (this.refreshFailures != 0) {
+      this.refreshFailures = 0;
+      this.nextRefreshRetryTime = 0;
+    }
+  }
+
+  /**
+   * @return true if a background refresh has failed and the backoff delay has elapsed
+   */
+  boolean isRefreshRetryDue() {
+    return this.refreshFailures > 0 && Clock.getCurrentTimeInSeconds() >= this.nextRefreshRetryTime;
+  }
+}
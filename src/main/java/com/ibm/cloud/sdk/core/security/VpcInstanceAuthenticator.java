@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.ibm.cloud.sdk.core.http.HttpHeaders;
 import com.ibm.cloud.sdk.core.http.HttpMediaType;
 import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.util.Clock;
 import com.ibm.cloud.sdk.core.util.RequestUtils;
 
 /**
@@ -62,6 +63,9 @@ public class VpcInstanceAuthenticator
   private String serviceVersion;
   private int tokenLifetime;
 
+  // The most recently retrieved instance identity token, which is reused for subsequent IAM token exchanges.
+  private volatile CachedInstanceIdentityToken cachedInstanceIdentityToken;
+
   /**
    * This Builder class is used to construct IamAuthenticator instances.
    */
@@ -229,6 +233,17 @@ public class VpcInstanceAuthenticator
     return Authenticator.AUTHTYPE_VPC;
   }
 
+  /**
+   * Returns the token cache key for this authenticator, which consists of
+   * the metadata service URL, version and trusted profile.
+   *
+   * @return the token cache key
+   */
+  @Override
+  protected String getTokenCacheKey() {
+    return buildTokenCacheKey(this.url, this.iamProfileCrn, this.iamProfileId, this.serviceVersion);
+  }
+
   /**
    * @return the iamProfileCrn configured on this Authenticator.
    */
@@ -243,6 +258,7 @@ public class VpcInstanceAuthenticator
    */
   protected void setIamProfileCrn(String iamProfileCrn) {
     this.iamProfileCrn = iamProfileCrn;
+    invalidateTokenCacheKey();
   }
 
   /**
@@ -259,6 +275,7 @@ public class VpcInstanceAuthenticator
    */
   protected void setIamProfileId(String iamProfileId) {
     this.iamProfileId = iamProfileId;
+    invalidateTokenCacheKey();
   }
 
   /**
@@ -278,6 +295,8 @@ public class VpcInstanceAuthenticator
       url = defaultIMSEndpoint;
     }
     this.url = url;
+    this.cachedInstanceIdentityToken = null;
+    invalidateTokenCacheKey();
   }
 
   /**
@@ -297,6 +316,8 @@ public class VpcInstanceAuthenticator
       serviceVersion = metadataServiceVersion;
     }
     this.serviceVersion = serviceVersion;
+    this.cachedInstanceIdentityToken = null;
+    invalidateTokenCacheKey();
   }
 
   /**
@@ -353,11 +374,16 @@ public class VpcInstanceAuthenticator
   public IamToken requestToken() {
     IamToken token = null;
     try {
-      // Retrieve the instance identity token from the VPC Instance Metadata Service.
-      String instanceIdentityToken = retrieveInstanceIdentityToken();
+      // Obtain an instance identity token, re-using the one we retrieved previously if it is still fresh.
+      String instanceIdentityToken = getInstanceIdentityToken();
 
       // Next, exchange the instance identity token for an IAM access token.
       token = retrieveIamAccessToken(instanceIdentityToken);
+
+      // If the exchange failed, then don't re-use the instance identity token in case it was the problem.
+      if (token.getException() != null) {
+        this.cachedInstanceIdentityToken = null;
+      }
     } catch (Throwable t) {
       token = new IamToken(t);
     }
@@ -365,6 +391,30 @@ public class VpcInstanceAuthenticator
     return token;
   }
 
+  /**
+   * Returns an instance identity token to be exchanged for an IAM access token.
+   * An instance identity token is valid for "tokenLifetime" seconds, so the one retrieved by a previous call
+   * is re-used until 80% of its lifetime has elapsed, after which a new one is retrieved from the
+   * VPC Instance Metadata Service.
+   * @return the instance identity token
+   * @throws Throwable if an error occurred
+   */
+  private String getInstanceIdentityToken() throws Throwable {
+    CachedInstanceIdentityToken cached = this.cachedInstanceIdentityToken;
+    long now = Clock.getCurrentTimeInSeconds();
+    if (cached != null && now >= cached.createdAt && now < cached.refreshTime) {
+      LOG.log(Level.FINE, "Using cached instance identity token.");
+      return cached.value;
+    }
+
+    String instanceIdentityToken = retrieveInstanceIdentityToken();
+    if (!StringUtils.isEmpty(instanceIdentityToken)) {
+      this.cachedInstanceIdentityToken =
+          new CachedInstanceIdentityToken(instanceIdentityToken, now, now + (long) (0.8 * getTokenLifetime()));
+    }
+    return instanceIdentityToken;
+  }
+
   /**
    * Retrieves the local compute resource's instance identity token using
    * the "create_access_token" operation of the local VPC Instance Metadata Service API.
@@ -452,5 +502,20 @@ public class VpcInstanceAuthenticator
 
     return iamToken;
   }
-}
 
+  /**
+   * An instance identity token along with the times (# of seconds since epoch time) at which it was retrieved
+   * and after which it should no longer be re-used.
+   */
+  private static final class CachedInstanceIdentityToken {
+    final String value;
+    final long createdAt;
+    final long refreshTime;
+
+    CachedInstanceIdentityToken(String value, long createdAt, long refreshTime) {
+      this.value = value;
+      this.createdAt = createdAt;
+      this.refreshTime = refreshTime;
+    }
+  }
+}
@@ -14,9 +14,11 @@
 package com.ibm.cloud.sdk.core.service;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -28,8 +30,14 @@ import com.ibm.cloud.sdk.core.http.HttpClientSingleton;
 import com.ibm.cloud.sdk.core.http.HttpConfigOptions;
 import com.ibm.cloud.sdk.core.http.HttpConfigOptions.LoggingLevel;
 import com.ibm.cloud.sdk.core.http.HttpHeaders;
+import com.ibm.cloud.sdk.core.http.HttpMediaType;
 import com.ibm.cloud.sdk.core.http.HttpStatus;
 import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.RetryPolicy;
+import com.ibm.cloud.sdk.core.http.ServerSentEvent;
+import com.ibm.cloud.sdk.core.http.ServerSentEventCallback;
+import com.ibm.cloud.sdk.core.http.ServerSentEventReader;
+import com.ibm.cloud.sdk.core.http.ServerSentEventServiceCall;
 import com.ibm.cloud.sdk.core.http.ServiceCall;
 import com.ibm.cloud.sdk.core.http.ServiceCallback;
 import com.ibm.cloud.sdk.core.security.Authenticator;
@@ -49,7 +57,11 @@ import com.ibm.cloud.sdk.core.service.exception.UnsupportedException;
 import com.ibm.cloud.sdk.core.util.CredentialUtils;
 import com.ibm.cloud.sdk.core.util.RequestUtils;
 
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.functions.BiConsumer;
+import io.reactivex.functions.Consumer;
 import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.Headers;
@@ -410,6 +422,26 @@ public abstract class BaseService {
     return new IBMCloudSDKServiceCall<>(call, converter);
   }
 
+  /**
+   * Creates a service call for an operation that returns a "text/event-stream" (Server-Sent Events) response.
+   * If the request does not already accept "text/event-stream", its Accept header is set to that value.
+   *
+   * @param <T> the type of each event's data field
+   * @param request the request
+   * @param converter the converter (see ResponseConverterUtils.getServerSentEvents())
+   * @return the service call
+   */
+  protected <T> ServerSentEventServiceCall<T> createServerSentEventServiceCall(final Request request,
+      final ResponseConverter<ServerSentEventReader<T>> converter) {
+    Request eventStreamRequest = request;
+    String accept = request.header(HttpHeaders.ACCEPT);
+    if (accept == null || !accept.contains(HttpMediaType.TEXT_EVENT_STREAM)) {
+      eventStreamRequest = request.newBuilder().header(HttpHeaders.ACCEPT, HttpMediaType.TEXT_EVENT_STREAM).build();
+    }
+    final Call call = createCall(eventStreamRequest);
+    return new IBMCloudSDKServerSentEventServiceCall<>(call, converter);
+  }
+
   /**
    * Gets the name.
    *
@@ -591,7 +623,32 @@ public abstract class BaseService {
     public ServiceCall<T> addHeader(String name, String value) {
       Request.Builder builder = call.request().newBuilder();
       builder.header(name, value);
-      call = client.newCall(builder.build());
+      rebuildCall(builder);
+      return this;
+    }
+
+    @Override
+    public ServiceCall<T> withRetryPolicy(RetryPolicy retryPolicy) {
+      Request.Builder builder = call.request().newBuilder();
+      builder.tag(RetryPolicy.class, retryPolicy);
+      rebuildCall(builder);
+      return this;
+    }
+
+    private void rebuildCall(Request.Builder builder) {
+      Call newCall = client.newCall(builder.build());
+      // Preserve any deadline set on the previous call.
+      newCall.timeout().timeout(call.timeout().timeoutNanos(), TimeUnit.NANOSECONDS);
+      call = newCall;
+    }
+
+    @Override
+    public ServiceCall<T> withDeadline(Duration timeout) {
+      if (timeout == null || timeout.isNegative()) {
+        throw new IllegalArgumentException("timeout must be a non-negative duration");
+      }
+      // The okhttp call timeout spans the entire call, including all interceptors (e.g. retries).
+      call.timeout().timeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
       return this;
     }
 
@@ -667,4 +724,92 @@ public abstract class BaseService {
       }
     }
   }
+
+  /**
+   * Defines implementation for service calls that return a "text/event-stream" response.
+   *
+   * @param <T> the type of each event's data field
+   */
+  class IBMCloudSDKServerSentEventServiceCall<T> extends IBMCloudSDKServiceCall<ServerSentEventReader<T>>
+      implements ServerSentEventServiceCall<T> {
+
+    IBMCloudSDKServerSentEventServiceCall(Call call, ResponseConverter<ServerSentEventReader<T>> converter) {
+      super(call, converter);
+    }
+
+    @Override
+    public ServerSentEventServiceCall<T> addHeader(String name, String value) {
+      super.addHeader(name, value);
+      return this;
+    }
+
+    @Override
+    public ServerSentEventServiceCall<T> withRetryPolicy(RetryPolicy retryPolicy) {
+      super.withRetryPolicy(retryPolicy);
+      return this;
+    }
+
+    @Override
+    public ServerSentEventServiceCall<T> withDeadline(Duration timeout) {
+      super.withDeadline(timeout);
+      return this;
+    }
+
+    @Override
+    public void stream(final ServerSentEventCallback<T> callback) {
+      enqueue(new ServiceCallback<ServerSentEventReader<T>>() {
+        @Override
+        public void onResponse(com.ibm.cloud.sdk.core.http.Response<ServerSentEventReader<T>> response) {
+          ServerSentEventReader<T> reader = response.getResult();
+          try {
+            while (reader.hasNext()) {
+              callback.onEvent(reader.next());
+            }
+          } catch (Exception e) {
+            closeQuietly(reader);
+            callback.onFailure(e);
+            return;
+          }
+          callback.onComplete();
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          callback.onFailure(e);
+        }
+      });
+    }
+
+    @Override
+    public Flowable<ServerSentEvent<T>> reactiveStream() {
+      return Flowable.generate(new Callable<ServerSentEventReader<T>>() {
+        @Override
+        public ServerSentEventReader<T> call() {
+          return execute().getResult();
+        }
+      }, new BiConsumer<ServerSentEventReader<T>, Emitter<ServerSentEvent<T>>>() {
+        @Override
+        public void accept(ServerSentEventReader<T> reader, Emitter<ServerSentEvent<T>> emitter) {
+          if (reader.hasNext()) {
+            emitter.onNext(reader.next());
+          } else {
+            emitter.onComplete();
+          }
+        }
+      }, new Consumer<ServerSentEventReader<T>>() {
+        @Override
+        public void accept(ServerSentEventReader<T> reader) {
+          closeQuietly(reader);
+        }
+      });
+    }
+
+    private void closeQuietly(ServerSentEventReader<T> reader) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        LOG.log(Level.FINE, "Error closing the event stream", e);
+      }
+    }
+  }
 }
@@ -32,9 +32,7 @@ public class BadRequestException extends ServiceResponseException {
    */
   public BadRequestException(Response response) {
     super(HttpStatus.BAD_REQUEST, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Bad request");
-    }
+    this.setDefaultMessage("Bad request");
   }
 
 }
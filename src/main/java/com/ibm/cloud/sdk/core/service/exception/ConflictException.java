@@ -34,9 +34,7 @@ public class ConflictException extends ServiceResponseException {
    */
   public ConflictException(Response response) {
     super(HttpStatus.CONFLICT, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Conflict");
-    }
+    this.setDefaultMessage("Conflict");
   }
 
 }
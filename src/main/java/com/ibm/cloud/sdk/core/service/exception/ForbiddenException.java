@@ -34,9 +34,7 @@ public class ForbiddenException extends ServiceResponseException {
    */
   public ForbiddenException(Response response) {
     super(HttpStatus.FORBIDDEN, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Forbidden: Service refused the request");
-    }
+    this.setDefaultMessage("Forbidden: Service refused the request");
   }
 
 }
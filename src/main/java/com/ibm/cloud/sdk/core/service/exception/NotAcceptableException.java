@@ -34,8 +34,6 @@ public class NotAcceptableException extends ServiceResponseException {
    */
   public NotAcceptableException(Response response) {
     super(HttpStatus.NOT_ACCEPTABLE, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Not Acceptable: Service cannot produce a response.");
-    }
+    this.setDefaultMessage("Not Acceptable: Service cannot produce a response.");
   }
 }
@@ -34,9 +34,7 @@ public class NotFoundException extends ServiceResponseException {
    */
   public NotFoundException(Response response) {
     super(HttpStatus.NOT_FOUND, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Not found");
-    }
+    this.setDefaultMessage("Not found");
   }
 
 }
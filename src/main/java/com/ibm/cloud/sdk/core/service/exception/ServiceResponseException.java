@@ -1,5 +1,5 @@
 /**
- * (C) Copyright IBM Corp. 2015, 2024.
+ * (C) Copyright IBM Corp. 2015, 2026.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -18,10 +18,18 @@ import com.google.gson.reflect.TypeToken;
 import com.ibm.cloud.sdk.core.http.Headers;
 import com.ibm.cloud.sdk.core.util.GsonSingleton;
 import com.ibm.cloud.sdk.core.util.ResponseUtils;
+import okhttp3.MediaType;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -41,14 +49,27 @@ public class ServiceResponseException extends RuntimeException {
 
   private static final Type debuggingInfoType = new TypeToken<Map<String, Object>>() { }.getType();
 
+  private static final Logger LOG = Logger.getLogger(ServiceResponseException.class.getName());
+
+  /** The default maximum number of bytes read from an error response body. */
+  public static final long DEFAULT_MAX_RESPONSE_BODY_SIZE = 64 * 1024;
+
+  private static volatile long maxResponseBodySize = DEFAULT_MAX_RESPONSE_BODY_SIZE;
+
   /** The status code. */
   private int statusCode;
 
   private String message;
+  private String defaultMessage;
   private Headers headers;
   private Map<String, Object> debuggingInfo;
   private String responseBody;
 
+  // The error body is parsed on first access to the message or debugging info.
+  private transient boolean parsed;
+  private String parsedMessage;
+  private transient JsonObject debuggingInfoJson;
+
   /**
    * Instantiates a new Service Response Exception for a response that resulted
    * in a bad status code.
@@ -80,31 +101,93 @@ public class ServiceResponseException extends RuntimeException {
     this.headers = new Headers(headers);
 
     if (response != null) {
-      String responseString = ResponseUtils.getString(response);
+      String responseString = readResponseBody(response);
       if (StringUtils.isNotEmpty(responseString)) {
         this.responseBody = responseString;
-        try {
-          final JsonObject jsonObject = ResponseUtils.getJsonObject(responseString);
-          if (jsonObject.has(ERRORS_KEY)) {
-            this.message = jsonObject.remove(ERRORS_KEY).getAsJsonArray().get(0).getAsJsonObject()
-                .remove(MESSAGE_STRING).getAsString();
-          } else if (jsonObject.has(ERROR_STRING)) {
-            this.message = jsonObject.remove(ERROR_STRING).getAsString();
-          } else if (jsonObject.has(MESSAGE_STRING)) {
-            this.message = jsonObject.remove(MESSAGE_STRING).getAsString();
-          } else if (jsonObject.has(ERROR_MESSAGE)) {
-            this.message = jsonObject.remove(ERROR_MESSAGE).getAsString();
-          }
-          this.debuggingInfo = GsonSingleton.getGson().fromJson(jsonObject, debuggingInfoType);
-        } catch (final Exception e) {
-          // Ignore any kind of exception parsing the json and use fallback String version
-          // of response
-          this.message = responseString;
-        }
       }
     }
   }
 
+  /**
+   * Reads at most {@link #getMaxResponseBodySize()} bytes of the response body and closes it.
+   *
+   * @param response the HTTP response
+   * @return the (possibly truncated) response body as a string, or null if there is no body
+   */
+  private static String readResponseBody(Response response) {
+    ResponseBody body = response.body();
+    if (body == null) {
+      return null;
+    }
+    try {
+      BufferedSource source = body.source();
+      source.request(maxResponseBodySize);
+      long size = Math.min(source.getBuffer().size(), maxResponseBodySize);
+      MediaType contentType = body.contentType();
+      Charset charset = contentType != null ? contentType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+      return source.readString(size, charset);
+    } catch (IOException e) {
+      LOG.log(Level.FINE, "Error reading the error response body", e);
+      return null;
+    } finally {
+      body.close();
+    }
+  }
+
+  /**
+   * Parses the response body to extract the error message and debugging info.
+   * This is done at most once, the first time either is needed.
+   */
+  private synchronized void parseResponseBody() {
+    if (parsed) {
+      return;
+    }
+    parsed = true;
+    if (responseBody == null) {
+      return;
+    }
+    try {
+      final JsonObject jsonObject = ResponseUtils.getJsonObject(responseBody);
+      if (jsonObject.has(ERRORS_KEY)) {
+        this.parsedMessage = jsonObject.remove(ERRORS_KEY).getAsJsonArray().get(0).getAsJsonObject()
+            .remove(MESSAGE_STRING).getAsString();
+      } else if (jsonObject.has(ERROR_STRING)) {
+        this.parsedMessage = jsonObject.remove(ERROR_STRING).getAsString();
+      } else if (jsonObject.has(MESSAGE_STRING)) {
+        this.parsedMessage = jsonObject.remove(MESSAGE_STRING).getAsString();
+      } else if (jsonObject.has(ERROR_MESSAGE)) {
+        this.parsedMessage = jsonObject.remove(ERROR_MESSAGE).getAsString();
+      }
+      this.debuggingInfoJson = jsonObject;
+    } catch (final Exception e) {
+      // Ignore any kind of exception parsing the json and use fallback String version
+      // of response
+      this.parsedMessage = responseBody;
+    }
+  }
+
+  /**
+   * Returns the maximum number of bytes read from an error response body.
+   *
+   * @return the maximum error response body size in bytes
+   */
+  public static long getMaxResponseBodySize() {
+    return maxResponseBodySize;
+  }
+
+  /**
+   * Sets the maximum number of bytes read from an error response body.
+   * Any remainder of the body is discarded; a truncated JSON body is reported as a plain string message.
+   *
+   * @param maxBytes the maximum error response body size in bytes
+   */
+  public static void setMaxResponseBodySize(long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be greater than zero");
+    }
+    maxResponseBodySize = maxBytes;
+  }
+
   /**
    * Gets the HTTP status code.
    *
@@ -121,7 +204,11 @@ public class ServiceResponseException extends RuntimeException {
    */
   @Override
   public String getMessage() {
-    return message;
+    if (message != null) {
+      return message;
+    }
+    parseResponseBody();
+    return parsedMessage != null ? parsedMessage : defaultMessage;
   }
 
   /**
@@ -133,6 +220,15 @@ public class ServiceResponseException extends RuntimeException {
     this.message = message;
   }
 
+  /**
+   * Sets the error message to be used if the response body does not contain one.
+   *
+   * @param defaultMessage the default error message
+   */
+  protected void setDefaultMessage(String defaultMessage) {
+    this.defaultMessage = defaultMessage;
+  }
+
   /**
    * Gets the headers.
    *
@@ -147,12 +243,20 @@ public class ServiceResponseException extends RuntimeException {
    *
    * @return the response information other than the error message
    */
-  public Map<String, Object> getDebuggingInfo() {
+  public synchronized Map<String, Object> getDebuggingInfo() {
+    if (debuggingInfo == null) {
+      parseResponseBody();
+      if (debuggingInfoJson != null) {
+        debuggingInfo = GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(debuggingInfoJson, debuggingInfoType);
+        debuggingInfoJson = null;
+      }
+    }
     return debuggingInfo;
   }
 
   /**
    * Gets the error response body as a string.
+   * At most {@link #getMaxResponseBodySize()} bytes of the body are retained.
    *
    * @return the response body as a string
    */
@@ -33,9 +33,7 @@ public class TooManyRequestsException extends ServiceResponseException {
    */
   public TooManyRequestsException(Response response) {
     super(TOO_MANY_REQUESTS, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Too many requests");
-    }
+    this.setDefaultMessage("Too many requests");
   }
 
 }
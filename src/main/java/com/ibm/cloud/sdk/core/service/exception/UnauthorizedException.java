@@ -34,9 +34,7 @@ public class UnauthorizedException extends ServiceResponseException {
    */
   public UnauthorizedException(Response response) {
     super(HttpStatus.UNAUTHORIZED, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Unauthorized: Access is denied due to invalid credentials. Tip: Did you set the endpoint?");
-    }
+    this.setDefaultMessage("Unauthorized: Access is denied due to invalid credentials. Tip: Did you set the endpoint?");
   }
 
 }
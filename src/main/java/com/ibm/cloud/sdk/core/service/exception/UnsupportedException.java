@@ -34,9 +34,7 @@ public class UnsupportedException extends ServiceResponseException {
    */
   public UnsupportedException(Response response) {
     super(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response);
-    if (this.getMessage() == null) {
-      this.setMessage("Unsupported media type");
-    }
+    this.setDefaultMessage("Unsupported media type");
   }
 
 }
@@ -19,6 +19,7 @@ import java.util.Set;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import com.ibm.cloud.sdk.core.util.ModelEquality;
 
 /**
  * Abstract model class for a model which supports dynamic (arbitrary) properties of type T.
@@ -140,7 +141,8 @@ public abstract class DynamicModel<T> implements ObjectModel {
 
     final DynamicModel<?> other = (DynamicModel<?>) o;
 
-    return toString().equals(other.toString());
+    return ModelEquality.fieldsEqual(this, other)
+        && ModelEquality.valueEquals(this.dynamicProperties, other.dynamicProperties);
   }
 
   /*
@@ -149,7 +151,7 @@ public abstract class DynamicModel<T> implements ObjectModel {
    */
   @Override
   public int hashCode() {
-    return toString().hashCode();
+    return ModelEquality.fieldsHashCode(this) + ModelEquality.valueHashCode(this.dynamicProperties);
   }
 
   /*
@@ -14,9 +14,13 @@
 package com.ibm.cloud.sdk.core.service.model;
 
 import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import com.ibm.cloud.sdk.core.util.ModelEquality;
 
 /**
  * Abstract model class to provide a default toString() method in model classes.
+ * <p>
+ * Two models are equal if their fields are equal; this is consistent with (but much cheaper than) comparing
+ * their JSON representations.
  */
 public abstract class GenericModel implements ObjectModel {
 
@@ -34,9 +38,7 @@ public abstract class GenericModel implements ObjectModel {
       return false;
     }
 
-    final GenericModel other = (GenericModel) o;
-
-    return toString().equals(other.toString());
+    return ModelEquality.fieldsEqual(this, o);
   }
 
   /*
@@ -46,7 +48,7 @@ public abstract class GenericModel implements ObjectModel {
    */
   @Override
   public int hashCode() {
-    return toString().hashCode();
+    return ModelEquality.fieldsHashCode(this);
   }
 
   /*
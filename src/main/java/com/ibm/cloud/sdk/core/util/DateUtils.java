@@ -31,11 +31,10 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
 import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -163,8 +162,9 @@ public class DateUtils {
   private static final DateTimeFormatter ansicTwoDigitDateTimeParser =
       DateTimeFormatter.ofPattern("EEE MMM d HH:mm:ss yyyy", Locale.ENGLISH).withZone(ZoneOffset.UTC);
 
-  // This is the ordered list of parsers that we will use when trying to parse a particular date-time string.
-  private static final List<DateTimeFormatter> dateTimeParsers =
+  // This is the ordered list of parsers that we will use when trying to parse a date-time string
+  // that starts with a (numeric) date.
+  private static final List<DateTimeFormatter> numericDateTimeParsers =
       Arrays.asList(
           rfc3339DateTimeParser,         // "yyyy-MM-dd'T'HH:mm:ss[.nnnnnnnnn]X",  optional frac-sec, tz: 'Z' or -06:00
           rfc3339DateTimeNoColonParser,  // "yyyy-MM-dd'T'HH:mm:ss[.nnnnnnnnn]XXX" optional frac-sec, tz: 'Z' or -0600
@@ -172,15 +172,21 @@ public class DateUtils {
           utcDateTimeWithoutTZ,          // "yyyy-MM-dd'T'HH:mm:ss[.nnnnnnnnn]"    optional frac-sec, no tz
           dialogDateTimeParser,          // "yyyy-MM-dd HH:mm:ss"                  no tz
           alchemyDateTimeParser,         // "yyyyMMdd'T'HHmmss"                    no tz
-          iamIdentityParser,             // "yyyy-MM-dd'T'HH:mmXXX"                no seconds, tz: Z or -0600)
+          iamIdentityParser              // "yyyy-MM-dd'T'HH:mmXXX"                no seconds, tz: Z or -0600)
+          );
+
+  // This is the ordered list of parsers that we will use when trying to parse a date-time string
+  // that starts with a (textual) day of the week.
+  private static final List<DateTimeFormatter> textualDateTimeParsers =
+      Arrays.asList(
           rfc2616DateTimeParser,         // "EEEE, dd MMM yyyy HH:mm:ss zzz"
           rfc850DateTimeParser,          // "EEEE, dd-MMM-yyyy HH:mm:ss zzz"
           ansicOneDigitDateTimeParser,   // "EEE MMM d HH:mm:ss yyyy"              no tz
           ansicTwoDigitDateTimeParser    // "EEE MMM dd HH:mm:ss yyyy"             no tz
           );
 
-  // This regex is used to recognize a datetime expressed as # of milliseconds since epoch time.
-  private static Pattern isJustNumber = Pattern.compile("^\\d+$");
+  // The number of days from 0000-01-01 to 1970-01-01 (proleptic Gregorian calendar).
+  private static final long DAYS_0000_TO_1970 = 719528L;
 
 
   // Hide the ctor since this is a utility class.
@@ -285,8 +291,47 @@ public class DateUtils {
       return null;
     }
 
-    // First, try to parse using one of the supported date-time formatters.
-    for (DateTimeFormatter formatter : dateTimeParsers) {
+    // A string of digits can only be a raw time value (# of ms since epoch time in UTC),
+    // so handle it before trying any of the parsers below.
+    if (isAllDigits(dateAsString)) {
+      return new Date(Long.parseLong(dateAsString));
+    }
+
+    // Next, try the hand-written parser for the common RFC 3339 "date-time" variants, which avoids
+    // the overhead of the formatters below.
+    Date d = parseRfc3339DateTime(dateAsString);
+    if (d != null) {
+      return d;
+    }
+
+    // Next, use the shape of the string to select the formatters that could possibly parse it.
+    // Each formatter that fails to parse the string throws an exception, so we avoid trying formatters
+    // that are bound to fail.
+    List<DateTimeFormatter> parsers = numericDateTimeParsers;
+    boolean tryFullDate = true;
+    if (Character.isLetter(dateAsString.charAt(0))) {
+      parsers = textualDateTimeParsers;
+      tryFullDate = false;
+    } else if (isDigits(dateAsString, 0, 4)) {
+      if (dateAsString.length() == 10 && dateAsString.charAt(4) == '-' && dateAsString.charAt(7) == '-') {
+        // yyyy-MM-dd
+        parsers = Collections.emptyList();
+      } else if (dateAsString.length() > 10 && dateAsString.charAt(10) == ' ') {
+        parsers = Collections.singletonList(dialogDateTimeParser);
+        tryFullDate = false;
+      } else if (dateAsString.length() > 16 && dateAsString.charAt(10) == 'T' && dateAsString.charAt(13) == ':'
+          && isOffsetStart(dateAsString.charAt(16))) {
+        // yyyy-MM-dd'T'HH:mm followed by a tz-offset (no seconds)
+        parsers = Collections.singletonList(iamIdentityParser);
+        tryFullDate = false;
+      } else if (dateAsString.length() > 8 && dateAsString.charAt(8) == 'T') {
+        parsers = Collections.singletonList(alchemyDateTimeParser);
+        tryFullDate = false;
+      }
+    }
+
+    // Try to parse using the selected date-time formatters.
+    for (DateTimeFormatter formatter : parsers) {
       try {
         return parse(dateAsString, formatter);
       } catch (Throwable e) {
@@ -295,24 +340,172 @@ public class DateUtils {
     }
 
     // Next, try to parse the string as a RFC 3339 full date (yyyy-MM-dd).
-    try {
-      return parseAsDate(dateAsString);
-    } catch (Throwable e) {
-      // absorb the exception
-    }
-
-    // Finally, handle the scenario where the datetime value is simply expressed as
-    // a long int (# of ms  since epoch time in UTC).
-    Matcher foundMatch = isJustNumber.matcher(dateAsString);
-    if (foundMatch.find()) {
-      Long timeAsLong = Long.parseLong(dateAsString);
-      return new Date(timeAsLong);
+    if (tryFullDate) {
+      try {
+        return parseAsDate(dateAsString);
+      } catch (Throwable e) {
+        // absorb the exception
+      }
     }
 
     // If we failed to parse the string using the various formatters, throw an exception.
     throw new DateTimeException(String.format("Text '%s' could not be parsed as a date-time value.", dateAsString));
   }
 
+  /**
+   * Parses the common RFC 3339 "date-time" variants without using a formatter:
+   * yyyy-MM-dd'T'HH:mm:ss[.nnnnnnnnn] followed by 'Z', +/-HH:MM, +/-HHMM or +/-HH, or by no tz-offset
+   * (in which case the fractional part, if present, must contain exactly 3 digits and UTC is assumed).
+   * Strings that are not in one of these forms, or that contain an out-of-range field, are not parsed here;
+   * for those, null is returned and the caller falls back to the formatters.
+   *
+   * @param s the string to parse
+   * @return a {@link Date} instance, or null if the string is not handled by this method
+   */
+  private static Date parseRfc3339DateTime(String s) {
+    int len = s.length();
+    if (len < 19 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+        || s.charAt(13) != ':' || s.charAt(16) != ':') {
+      return null;
+    }
+    int year = parseDigits(s, 0, 4);
+    int month = parseDigits(s, 5, 2);
+    int day = parseDigits(s, 8, 2);
+    int hour = parseDigits(s, 11, 2);
+    int minute = parseDigits(s, 14, 2);
+    int second = parseDigits(s, 17, 2);
+    if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+        || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return null;
+    }
+
+    // Optional fractional seconds (up to 9 digits).
+    int pos = 19;
+    int fractionDigits = 0;
+    int nanos = 0;
+    if (pos < len && s.charAt(pos) == '.') {
+      pos++;
+      while (pos < len && isDigit(s.charAt(pos))) {
+        if (++fractionDigits > 9) {
+          return null;
+        }
+        nanos = nanos * 10 + (s.charAt(pos) - '0');
+        pos++;
+      }
+      if (fractionDigits == 0) {
+        return null;
+      }
+      for (int i = fractionDigits; i < 9; i++) {
+        nanos *= 10;
+      }
+    }
+
+    // Optional tz-offset.
+    int offsetSeconds = 0;
+    if (pos == len) {
+      if (fractionDigits != 0 && fractionDigits != 3) {
+        return null;
+      }
+    } else if (s.charAt(pos) == 'Z') {
+      if (pos + 1 != len) {
+        return null;
+      }
+    } else if (s.charAt(pos) == '+' || s.charAt(pos) == '-') {
+      int offsetLen = len - pos - 1;
+      int offsetHours;
+      int offsetMinutes;
+      if (offsetLen == 2) {
+        offsetHours = parseDigits(s, pos + 1, 2);
+        offsetMinutes = 0;
+      } else if (offsetLen == 4) {
+        offsetHours = parseDigits(s, pos + 1, 2);
+        offsetMinutes = parseDigits(s, pos + 3, 2);
+      } else if (offsetLen == 5 && s.charAt(pos + 3) == ':') {
+        offsetHours = parseDigits(s, pos + 1, 2);
+        offsetMinutes = parseDigits(s, pos + 4, 2);
+      } else {
+        return null;
+      }
+      if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59
+          || offsetHours * 60 + offsetMinutes > 18 * 60) {
+        return null;
+      }
+      offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (s.charAt(pos) == '-' ? -1 : 1);
+    } else {
+      return null;
+    }
+
+    long epochSecond = toEpochDay(year, month, day) * 86400L + hour * 3600 + minute * 60 + second - offsetSeconds;
+    return new Date(epochSecond * 1000L + nanos / 1000000);
+  }
+
+  /**
+   * Returns the number of days since 1970-01-01 of the specified date (year must be positive).
+   */
+  private static long toEpochDay(int year, int month, int day) {
+    long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12 + day - 1;
+    if (month > 2) {
+      total -= isLeapYear(year) ? 1 : 2;
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+  }
+
+  /**
+   * Returns the value of the specified number of decimal digits starting at "start", or -1 if any of
+   * the characters is not a digit.
+   */
+  private static int parseDigits(String s, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = s.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigits(String s, int start, int count) {
+    return s.length() >= start + count && parseDigits(s, start, count) >= 0;
+  }
+
+  private static boolean isAllDigits(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      if (!isDigit(s.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isOffsetStart(char c) {
+    return c == '+' || c == '-' || c == 'Z';
+  }
+
   /**
    * Helper function to call the formatter's parse() method and convert result to a {@link Date} instance.
    *
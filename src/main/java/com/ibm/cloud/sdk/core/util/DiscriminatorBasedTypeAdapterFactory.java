@@ -1,5 +1,5 @@
 /**
- * (C) Copyright IBM Corp. 2019, 2024.
+ * (C) Copyright IBM Corp. 2019, 2026.
  * Copyright (C) 2011 Google Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
@@ -17,6 +17,8 @@ package com.ibm.cloud.sdk.core.util;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -73,6 +75,8 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
    * discriminator metdata, or null otherwise.
    * We use reflection to scrape the discriminator information (property name and mapping data) from the Class,
    * then cache that information in a DiscriminatorMetadata instance which is then used to construct the TypeAdapter.
+   * The DiscriminatorMetadata instance (or the lack of one) is cached per Class by {@link ModelClassMetadata},
+   * so the reflection is performed only once per Class.
    * The TypeAdapter will then cache the DiscriminatorMetadata instance and use it for subsequent deserialization
    * operations.   Note that the TypeAdapter instance we return is bound to the specific Class described by the 'type'
    * parameter.
@@ -87,7 +91,7 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
     LOGGER.log(Level.FINE, "{0} examining class: {1}",
         new Object[] {this.getClass().getSimpleName(), rawType.getName()});
 
-    DiscriminatorMetadata discMetadata = getDiscriminatorMetadata(rawType);
+    DiscriminatorMetadata discMetadata = ModelClassMetadata.forClass(rawType).getDiscriminatorMetadata();
     if (discMetadata != null) {
       LOGGER.log(Level.FINE, "Returning TypeAdapter instance to handle class: {0}", rawType.getName());
       return new Adapter<T>(gson, discMetadata);
@@ -111,6 +115,9 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
     // We don't require "default" mappings to be explicitly specified.
     private Map<String, Class<?>> mapping;
 
+    // The implicit mappings (discriminator values that name a class in the discriminator class's package)
+    // that have been resolved so far.
+    private final ConcurrentMap<String, Class<?>> implicitMapping = new ConcurrentHashMap<>();
 
     DiscriminatorMetadata(Class<?> discriminatorClass, String propertyName, Map<String, Class<?>> mapping) {
       this.discriminatorClass = discriminatorClass;
@@ -129,28 +136,38 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
     Class<?> getSubclassMapping(String discriminatorValue) {
       return mapping != null ? mapping.get(discriminatorValue) : null;
     }
+
+    Class<?> getImplicitMapping(String discriminatorValue) {
+      return implicitMapping.get(discriminatorValue);
+    }
+
+    void putImplicitMapping(String discriminatorValue, Class<?> clazz) {
+      implicitMapping.put(discriminatorValue, clazz);
+    }
   }
 
   /**
    * Retrieves the discriminator metadata from the specified Class, if present.
+   * Callers should use {@link ModelClassMetadata#getDiscriminatorMetadata()}, which caches the result.
    * @param clazz the Class that potentially contains the discriminator metadata
    * @return a DiscriminatorMetadata instance or null if no metadata was found on the class
    */
   @SuppressWarnings("unchecked")
-  private DiscriminatorMetadata getDiscriminatorMetadata(Class<?> clazz) {
+  static DiscriminatorMetadata loadDiscriminatorMetadata(Class<?> clazz) {
     try {
       String propName = null;
       Map<String, Class<?>> mapping = null;
-      Field propNameField = clazz.getDeclaredField(DISC_PROPERTY_NAME_FIELD);
-      if (propNameField != null) {
-        propNameField.setAccessible(true);
-        propName = (String) propNameField.get(null);
-      }
 
-      Field mappingField = clazz.getDeclaredField(DISC_MAPPING_FIELD);
-      if (mappingField != null) {
-        mappingField.setAccessible(true);
-        mapping = (Map<String, Class<?>>) mappingField.get(null);
+      // Scan the declared fields rather than calling getDeclaredField() so that the (common) case of a class
+      // without discriminator metadata doesn't incur the cost of a NoSuchFieldException.
+      for (Field field : clazz.getDeclaredFields()) {
+        if (DISC_PROPERTY_NAME_FIELD.equals(field.getName())) {
+          field.setAccessible(true);
+          propName = (String) field.get(null);
+        } else if (DISC_MAPPING_FIELD.equals(field.getName())) {
+          field.setAccessible(true);
+          mapping = (Map<String, Class<?>>) field.get(null);
+        }
       }
 
       if (propName != null && mapping != null) {
@@ -243,7 +260,9 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
       try {
         // 1) Parse the JSON object to produce the JsonElement parse tree.
         JsonElement parseTree = JsonParser.parseReader(in);
-        LOGGER.log(Level.FINEST, "Parsed JSON into JsonElement tree: {0}", parseTree.toString());
+        if (LOGGER.isLoggable(Level.FINEST)) {
+          LOGGER.log(Level.FINEST, "Parsed JSON into JsonElement tree: {0}", parseTree.toString());
+        }
 
         // 2 & 3) Determine the deserialization target class by retrieving the
         // discriminator value from the JsonElement parse tree, then look that value up
@@ -296,6 +315,9 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
       // If we don't find an explicit mapping for the discriminator value, then we'll try to synthesize one
       // by using the package name of the discriminator class together with the discriminator value.
       // If this results in a class that extends the discriminator-containing class, then we're good.
+      if (deserTargetClass == null) {
+        deserTargetClass = (Class<? extends T>) discMetadata.getImplicitMapping(discValue);
+      }
       if (deserTargetClass == null) {
         String deserTargetName = discMetadata.getDiscriminatorClass().getPackage().getName() + "." + discValue;
         LOGGER.log(Level.FINEST, "Explicit discriminator mapping not found for value: {0}", discValue);
@@ -307,6 +329,7 @@ public class DiscriminatorBasedTypeAdapterFactory implements TypeAdapterFactory
           throw new IOException("Unable to determine implicit deserialization target class for discriminator value: "
             + discValue);
         }
+        discMetadata.putImplicitMapping(discValue, deserTargetClass);
       }
 
       return deserTargetClass;
@@ -1,5 +1,5 @@
 /**
- * (C) Copyright IBM Corp. 2019, 2024.
+ * (C) Copyright IBM Corp. 2019, 2026.
  * Copyright (C) 2011 Google Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
@@ -110,23 +110,66 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
 
   /**
    * Returns the no-arg (default) ctor associated with the Class "clazz".
+   * The ctor is looked up only once per class; see {@link ModelClassMetadata}.
    *
    * @param clazz
    *          the class whose default ctor should be retrieved
    * @return clazz's default ctor
    */
   protected Constructor<?> getDefaultCtor(Class<?> clazz) {
+    return ModelClassMetadata.forClass(clazz).getDefaultCtor();
+  }
+
+  /**
+   * Finds the no-arg (default) ctor associated with the Class "clazz" and suppresses its access checks.
+   *
+   * @param clazz the class whose default ctor should be retrieved
+   * @return clazz's default ctor or null if it has none
+   */
+  static Constructor<?> findDefaultCtor(Class<?> clazz) {
     Constructor<?>[] allCtors = clazz.getDeclaredConstructors();
     for (int i = 0; i < allCtors.length; i++) {
       Constructor<?> ctor = allCtors[i];
       if (ctor.getParameterTypes().length == 0) {
-        suppressAccessChecks(ctor);
+        setAccessible(ctor);
         return ctor;
       }
     }
     return null;
   }
 
+  /**
+   * A field declared with the SerializedName annotation, along with its JSON field names.
+   */
+  static class SerializedField {
+    final Field field;
+    final List<String> names;
+
+    SerializedField(Field field, List<String> names) {
+      this.field = field;
+      this.names = names;
+    }
+  }
+
+  /**
+   * Finds the fields declared by the Class "clazz" (not including inherited fields) that carry the
+   * SerializedName annotation, and suppresses their access checks.
+   *
+   * @param clazz the class to be examined
+   * @return the list of serialized fields
+   */
+  static List<SerializedField> findSerializedFields(Class<?> clazz) {
+    List<SerializedField> result = new ArrayList<SerializedField>();
+    for (Field field : clazz.getDeclaredFields()) {
+      List<String> fieldNames = getFieldNames(field);
+      if (fieldNames != null) {
+        setAccessible(field);
+        result.add(new SerializedField(field, fieldNames));
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
   /**
    * Returns a map (keyed by field name) of BoundField objects which represent the fields found within the specified
    * type and all its super types.
@@ -144,20 +187,15 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
     // Walk the type hierarchy starting at the class represented by "type".
     Type declaredType = type.getType();
     while (raw != Object.class) {
-      Field[] fields = raw.getDeclaredFields();
-      for (Field field : fields) {
-        List<String> fieldNames = getFieldNames(field);
-        if (fieldNames == null) {
-          continue;
-        }
+      for (SerializedField serializedField : ModelClassMetadata.forClass(raw).getSerializedFields()) {
+        Field field = serializedField.field;
+        List<String> fieldNames = serializedField.names;
 
         // We'll assume that each field should be serialized and de-serialized
         // unless/until we know otherwise.
         boolean serialize = true;
         boolean deserialize = true;
 
-        suppressAccessChecks(field);
-
         Type fieldType = GsonTypes.resolve(type.getType(), raw, field.getGenericType());
         BoundField previous = null;
         for (int i = 0, size = fieldNames.size(); i < size; ++i) {
@@ -194,6 +232,10 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
    * @param ao the AccessibleObject instance (a Constructor, Field, Method, etc.)
    */
   protected void suppressAccessChecks(AccessibleObject ao) {
+    setAccessible(ao);
+  }
+
+  private static void setAccessible(AccessibleObject ao) {
     // If access control checks are currently NOT being suppressed,
     // then try to suppress them.
     if (!ao.isAccessible()) {
@@ -216,7 +258,7 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
    * @return a list of field names associated with the Field, with the first field name representing the "default" name
    *         used in serialization
    */
-  private List<String> getFieldNames(Field f) {
+  private static List<String> getFieldNames(Field f) {
     SerializedName annotation = f.getAnnotation(SerializedName.class);
     if (annotation == null) {
       return null;
@@ -254,6 +296,10 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
 
     abstract void write(JsonWriter writer, Object value) throws IOException, IllegalAccessException;
 
+    abstract Object get(Object value) throws IllegalAccessException;
+
+    abstract void writeValue(JsonWriter writer, Object fieldValue) throws IOException;
+
     abstract void read(JsonReader reader, Object value) throws IOException, IllegalAccessException;
   }
 
@@ -272,15 +318,27 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
     final boolean isPrimitive = Primitives.isPrimitive(fieldType.getRawType());
     final TypeAdapter<?> typeAdapter = context.getAdapter(fieldType);
 
+    // The wrapper selects (and caches) the adapter for the field value's runtime type when writing.
+    @SuppressWarnings({
+        "unchecked", "rawtypes"
+    })
+    final TypeAdapter<Object> writeAdapter = new TypeAdapterRuntimeTypeWrapper(context, typeAdapter,
+        fieldType.getType());
+
     return new DynamicModelTypeAdapterFactory.BoundField(name, serialize, deserialize) {
-      @SuppressWarnings({
-          "unchecked", "rawtypes"
-      })
       @Override
       void write(JsonWriter writer, Object value) throws IOException, IllegalAccessException {
-        Object fieldValue = field.get(value);
-        TypeAdapter t = new TypeAdapterRuntimeTypeWrapper(context, typeAdapter, fieldType.getType());
-        t.write(writer, fieldValue);
+        writeValue(writer, field.get(value));
+      }
+
+      @Override
+      Object get(Object value) throws IllegalAccessException {
+        return field.get(value);
+      }
+
+      @Override
+      void writeValue(JsonWriter writer, Object fieldValue) throws IOException {
+        writeAdapter.write(writer, fieldValue);
       }
 
       @Override
@@ -314,12 +372,63 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
     private TypeAdapter<?> mapValueObjectTypeAdapter;
     private Set<String> boundFieldNames;
 
+    // The bound fields to be serialized (in order), excluding the entries for alternate field names.
+    private BoundField[] serializedFields;
+
+    // The most recently used map value type and its adapter.  All instances of a given dynamic model class
+    // normally share the same map value type, so this avoids a Gson adapter lookup for each instance.
+    private volatile MapValueAdapter cachedMapValueAdapter;
+
     Adapter(Gson gson, Constructor<?> ctor, Map<String, BoundField> boundFields) {
       this.gson = gson;
       this.ctor = ctor;
       this.boundFields = boundFields;
       this.mapValueObjectTypeAdapter = new MapValueObjectTypeAdapter(gson);
       this.boundFieldNames = boundFields.keySet();
+
+      List<BoundField> serialized = new ArrayList<BoundField>(boundFields.size());
+      for (BoundField boundField : boundFields.values()) {
+        if (boundField.serialized) {
+          serialized.add(boundField);
+        }
+      }
+      this.serializedFields = serialized.toArray(new BoundField[0]);
+    }
+
+    /**
+     * Associates a map value type with the TypeAdapter used to serialize and deserialize additional properties.
+     */
+    private static final class MapValueAdapter {
+      final TypeToken<?> type;
+      final TypeAdapter<?> adapter;
+
+      MapValueAdapter(TypeToken<?> type, TypeAdapter<?> adapter) {
+        this.type = type;
+        this.adapter = adapter;
+      }
+    }
+
+    /**
+     * Returns the TypeAdapter to be used for the additional properties of the specified instance.
+     */
+    private TypeAdapter<?> getMapValueTypeAdapter(T instance) {
+      // Retrieve the additionalPropertyTypeToken field from the DynamicModel instance.
+      TypeToken<?> mapValueType = getMapValueType(instance);
+
+      MapValueAdapter cached = cachedMapValueAdapter;
+      if (cached != null && cached.type.equals(mapValueType)) {
+        return cached.adapter;
+      }
+
+      TypeAdapter<?> mapValueTypeAdapter;
+      // If the map value type is Object, then we need to use our own flavor of the Gson ObjectTypeAdapter.
+      if (mapValueType.getRawType().equals(Object.class)) {
+        mapValueTypeAdapter = this.mapValueObjectTypeAdapter;
+      } else {
+        mapValueTypeAdapter = gson.getAdapter(mapValueType);
+      }
+      cachedMapValueAdapter = new MapValueAdapter(mapValueType, mapValueTypeAdapter);
+      return mapValueTypeAdapter;
     }
 
     /*
@@ -338,24 +447,16 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
       out.beginObject();
       try {
         // First, serialize each of the bound fields.
-        for (BoundField boundField : boundFields.values()) {
-          if (boundField.writeField(value)) {
+        for (BoundField boundField : serializedFields) {
+          Object fieldValue = boundField.get(value);
+          if (fieldValue != value) { // avoid recursion for example for Throwable.cause
             out.name(boundField.name);
-            boundField.write(out, value);
+            boundField.writeValue(out, fieldValue);
           }
         }
 
-        // Next, we need to dynamically retrieve the additionalPropertyTypeToken field
-        // from the DynamicModel instance and retrieve its TypeAdapter for deserializing arbitrary properties.
-        TypeToken<?> mapValueType = getMapValueType(value);
-        TypeAdapter mapValueTypeAdapter = gson.getAdapter(mapValueType);
-
-        // If the map value type is Object, then we need to use our own flavor of the Gson ObjectTypeAdapter.
-        if (mapValueType.getRawType().equals(Object.class)) {
-          mapValueTypeAdapter = this.mapValueObjectTypeAdapter;
-        } else {
-          mapValueTypeAdapter = gson.getAdapter(mapValueType);
-        }
+        // Next, retrieve the TypeAdapter for serializing arbitrary properties.
+        TypeAdapter mapValueTypeAdapter = getMapValueTypeAdapter(value);
 
         // Next, serialize each of the map entries.
         // When serializing the map entries (i.e. additional/dynamic properties) we want
@@ -365,25 +466,23 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
         // "serialize nulls" option if the dynamic property's value is null AND the dynamic property's name
         // is not one of the explicitly-defined properties.
         boolean serializeNulls = out.getSerializeNulls();
-        try {
-          for (String key : ((DynamicModel<?>) value).getPropertyNames()) {
-            Object mapValue = ((DynamicModel<?>) value).get(key);
-
-            // If this dynamic property is NOT an explicitly-defined property AND the value is null,
-            // then temporarily enable the "serializeNulls" Gson option.
-            if (!boundFieldNames.contains(key) && mapValue == null) {
-              out.setSerializeNulls(true);
+        DynamicModel<?> dynamicModel = (DynamicModel<?>) value;
+        for (String key : dynamicModel.getPropertyNames()) {
+          Object mapValue = dynamicModel.get(key);
+          out.name(key);
+
+          // If this dynamic property is NOT an explicitly-defined property AND the value is null,
+          // then temporarily enable the "serializeNulls" Gson option.
+          if (mapValue == null && !serializeNulls && !boundFieldNames.contains(key)) {
+            out.setSerializeNulls(true);
+            try {
+              mapValueTypeAdapter.write(out, null);
+            } finally {
+              out.setSerializeNulls(false);
             }
-
-            // Now serialize the key and value.
-            out.name(key);
+          } else {
             mapValueTypeAdapter.write(out, mapValue);
-
-            // Restore the original "serializeNulls" option value.
-            out.setSerializeNulls(serializeNulls);
           }
-        } finally {
-          out.setSerializeNulls(serializeNulls);
         }
       } catch (IllegalAccessException e) {
         throw new AssertionError(e);
@@ -414,17 +513,8 @@ public class DynamicModelTypeAdapterFactory implements TypeAdapterFactory {
         throw new IOException("Could not instantiate class: " + ctor.getDeclaringClass().getName(), e);
       }
 
-      // Next, we need to dynamically retrieve the additionalPropertyTypeToken field
-      // from the DynamicModel instance and retrieve its TypeAdapter for deserializing arbitrary properties.
-      TypeToken<?> mapValueType = getMapValueType(instance);
-      TypeAdapter<?> mapValueTypeAdapter;
-
-      // If the map value type is Object, then we need to use our own flavor of the Gson ObjectTypeAdapter.
-      if (mapValueType.getRawType().equals(Object.class)) {
-        mapValueTypeAdapter = this.mapValueObjectTypeAdapter;
-      } else {
-        mapValueTypeAdapter = gson.getAdapter(mapValueType);
-      }
+      // Next, retrieve the TypeAdapter for deserializing arbitrary properties.
+      TypeAdapter<?> mapValueTypeAdapter = getMapValueTypeAdapter(instance);
 
       try {
         in.beginObject();
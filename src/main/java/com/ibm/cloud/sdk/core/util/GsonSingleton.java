@@ -14,7 +14,13 @@
 package com.ibm.cloud.sdk.core.util;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,6 +43,7 @@ public final class GsonSingleton {
 
   private static Gson gson;
   private static Gson gsonWithoutPrinting;
+  private static List<ModelTypeAdapterFactory> modelTypeAdapterFactories;
 
   private GsonSingleton() {
     // This is a utility class - no instantiation allowed.
@@ -93,6 +100,40 @@ public final class GsonSingleton {
     // Type adapter factory for classes that use a discriminator.
     builder.registerTypeAdapterFactory(new DiscriminatorBasedTypeAdapterFactory());
     LOG.log(Level.FINE, "Registered type adapter factory {0}", DiscriminatorBasedTypeAdapterFactory.class.getName());
+
+    // Type adapter factories for model classes, discovered with ServiceLoader.
+    // Gson consults the most recently registered factories first, so these are registered last
+    // in order to take precedence over the type adapters and reflection-based factories above.
+    for (ModelTypeAdapterFactory factory : getModelTypeAdapterFactories()) {
+      builder.registerTypeAdapterFactory(factory);
+      LOG.log(Level.FINE, "Registered model type adapter factory {0}", factory.getClass().getName());
+    }
+  }
+
+  /**
+   * Returns the {@link ModelTypeAdapterFactory} implementations available from the ServiceLoader.
+   * The lookup is performed only once.
+   *
+   * @return the list of model type adapter factories
+   */
+  private static synchronized List<ModelTypeAdapterFactory> getModelTypeAdapterFactories() {
+    if (modelTypeAdapterFactories == null) {
+      List<ModelTypeAdapterFactory> factories = new ArrayList<>();
+      Iterator<ModelTypeAdapterFactory> iterator = ServiceLoader.load(ModelTypeAdapterFactory.class).iterator();
+      while (true) {
+        try {
+          if (!iterator.hasNext()) {
+            break;
+          }
+          factories.add(iterator.next());
+        } catch (ServiceConfigurationError e) {
+          // Skip a provider that can't be loaded rather than failing all JSON processing.
+          LOG.log(Level.WARNING, "Unable to load model type adapter factory", e);
+        }
+      }
+      modelTypeAdapterFactories = Collections.unmodifiableList(factories);
+    }
+    return modelTypeAdapterFactories;
   }
 
   /**
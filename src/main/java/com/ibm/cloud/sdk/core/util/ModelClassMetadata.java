@@ -0,0 +1,170 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.annotations.SerializedName;
+
+import com.ibm.cloud.sdk.core.util.DiscriminatorBasedTypeAdapterFactory.DiscriminatorMetadata;
+import com.ibm.cloud.sdk.core.util.DynamicModelTypeAdapterFactory.SerializedField;
+
+/**
+ * A per-class cache of the reflective metadata used by {@link DiscriminatorBasedTypeAdapterFactory},
+ * {@link DynamicModelTypeAdapterFactory} and {@link ModelEquality}.
+ * <p>
+ * Gson asks each registered TypeAdapterFactory to examine every type it encounters, and each Gson instance
+ * repeats this for itself.  The reflective lookups involved (scanning declared fields and constructors, reading the
+ * discriminator metadata fields, etc.) are performed at most once per class and the results are shared by all
+ * factory and Gson instances.  The metadata is held in a {@link ClassValue}, so it does not prevent a class
+ * (or its class loader) from being unloaded.
+ * <p>
+ * Each item is computed lazily the first time it is requested; concurrent first requests may compute it more than
+ * once, but always produce equivalent results.
+ */
+final class ModelClassMetadata {
+
+  private static final ClassValue<ModelClassMetadata> REGISTRY = new ClassValue<ModelClassMetadata>() {
+    @Override
+    protected ModelClassMetadata computeValue(Class<?> type) {
+      return new ModelClassMetadata(type);
+    }
+  };
+
+  private final Class<?> clazz;
+
+  private volatile boolean discriminatorResolved;
+  private DiscriminatorMetadata discriminatorMetadata;
+
+  private volatile boolean defaultCtorResolved;
+  private Constructor<?> defaultCtor;
+
+  private volatile List<SerializedField> serializedFields;
+  private volatile JsonField[] serializedJsonFields;
+  private volatile JsonField[] instanceJsonFields;
+
+  private ModelClassMetadata(Class<?> clazz) {
+    this.clazz = clazz;
+  }
+
+  /**
+   * Returns the metadata for the specified class.
+   *
+   * @param clazz the class
+   * @return the (possibly not yet populated) metadata for the class
+   */
+  static ModelClassMetadata forClass(Class<?> clazz) {
+    return REGISTRY.get(clazz);
+  }
+
+  /**
+   * Returns the discriminator metadata declared by the class.
+   *
+   * @return the discriminator metadata, or null if the class does not declare any
+   */
+  DiscriminatorMetadata getDiscriminatorMetadata() {
+    if (!discriminatorResolved) {
+      discriminatorMetadata = DiscriminatorBasedTypeAdapterFactory.loadDiscriminatorMetadata(clazz);
+      discriminatorResolved = true;
+    }
+    return discriminatorMetadata;
+  }
+
+  /**
+   * Returns the class's no-arg (default) ctor, with access checks suppressed.
+   *
+   * @return the default ctor, or null if the class does not have one
+   */
+  Constructor<?> getDefaultCtor() {
+    if (!defaultCtorResolved) {
+      defaultCtor = DynamicModelTypeAdapterFactory.findDefaultCtor(clazz);
+      defaultCtorResolved = true;
+    }
+    return defaultCtor;
+  }
+
+  /**
+   * Returns the fields declared by the class (not including inherited fields) that carry
+   * the SerializedName annotation, with access checks suppressed.
+   *
+   * @return the list of serialized fields
+   */
+  List<SerializedField> getSerializedFields() {
+    List<SerializedField> result = serializedFields;
+    if (result == null) {
+      result = DynamicModelTypeAdapterFactory.findSerializedFields(clazz);
+      serializedFields = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the fields declared by the class (not including inherited fields) that appear in the JSON form
+   * of a model, along with their JSON names.
+   * For a DynamicModel subclass these are the fields returned by {@link #getSerializedFields()};
+   * otherwise they are the fields that Gson's reflective TypeAdapter serializes by default
+   * (i.e. non-static, non-transient and non-synthetic fields).
+   *
+   * @param dynamicModel true if the class is a DynamicModel subclass
+   * @return the JSON fields declared by the class
+   */
+  JsonField[] getJsonFields(boolean dynamicModel) {
+    JsonField[] result = dynamicModel ? serializedJsonFields : instanceJsonFields;
+    if (result == null) {
+      List<JsonField> fields = new ArrayList<>();
+      if (dynamicModel) {
+        for (SerializedField serializedField : getSerializedFields()) {
+          fields.add(new JsonField(serializedField.field, serializedField.names.get(0)));
+        }
+      } else {
+        for (Field field : clazz.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+            try {
+              field.setAccessible(true);
+            } catch (RuntimeException e) {
+              // Ignore this for now; the field will be reported as inaccessible when it is used.
+            }
+            SerializedName annotation = field.getAnnotation(SerializedName.class);
+            fields.add(new JsonField(field, annotation != null ? annotation.value() : field.getName()));
+          }
+        }
+      }
+      result = fields.toArray(new JsonField[0]);
+      if (dynamicModel) {
+        serializedJsonFields = result;
+      } else {
+        instanceJsonFields = result;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A field along with the name of the corresponding property in the JSON form of a model.
+   */
+  static final class JsonField {
+    final Field field;
+    final String name;
+
+    JsonField(Field field, String name) {
+      this.field = field;
+      this.name = name;
+    }
+  }
+}
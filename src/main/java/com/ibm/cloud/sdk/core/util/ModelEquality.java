@@ -0,0 +1,252 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ibm.cloud.sdk.core.service.model.DynamicModel;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
+import com.ibm.cloud.sdk.core.util.ModelClassMetadata.JsonField;
+
+/**
+ * Utility class that implements field-based equals() and hashCode() for model classes.
+ * <p>
+ * Two models are considered equal if their JSON representations would be equal, but the comparison is performed
+ * by walking the models' fields (using the cached per-class metadata) rather than by serializing them.
+ * The fields that are compared are the ones that Gson serializes: for a {@link DynamicModel} these are the fields
+ * annotated with SerializedName, and for other models these are all non-static, non-transient fields.
+ * <p>
+ * Nested values are compared the same way.  Numbers are compared by their JSON (string) form, so a Long and
+ * a LazilyParsedNumber holding the same value are equal, and a model is equal to a Map that holds the same JSON
+ * properties (as produced when a model stored in an Object-typed property is deserialized).
+ * Null-valued map entries are ignored, just as null fields are, since neither appears in the JSON form.
+ * The hash code of a model is computed in the same way as that of a Map holding its JSON properties.
+ */
+public final class ModelEquality {
+
+  private ModelEquality() {
+    // This is a utility class - no instantiation allowed.
+  }
+
+  /**
+   * Compares the fields of two model instances of the same class.
+   *
+   * @param a the first model
+   * @param b the second model, which must be an instance of the same class as the first
+   * @return true if the corresponding fields of the two models are equal
+   */
+  public static boolean fieldsEqual(Object a, Object b) {
+    boolean dynamicModel = a instanceof DynamicModel;
+    try {
+      for (Class<?> clazz = a.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+        for (JsonField jsonField : ModelClassMetadata.forClass(clazz).getJsonFields(dynamicModel)) {
+          if (!valueEquals(jsonField.field.get(a), jsonField.field.get(b))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    } catch (IllegalAccessException e) {
+      // Fall back to comparing the JSON representations.
+      return GsonSingleton.getGson().toJson(a).equals(GsonSingleton.getGson().toJson(b));
+    }
+  }
+
+  /**
+   * Computes a hash code from the fields of a model instance, consistent with {@link #fieldsEqual(Object, Object)}.
+   * The result is the hash code of a Map containing the model's non-null fields, keyed by their JSON names.
+   *
+   * @param o the model
+   * @return the hash code
+   */
+  public static int fieldsHashCode(Object o) {
+    boolean dynamicModel = o instanceof DynamicModel;
+    try {
+      int result = 0;
+      for (Class<?> clazz = o.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+        for (JsonField jsonField : ModelClassMetadata.forClass(clazz).getJsonFields(dynamicModel)) {
+          Object value = jsonField.field.get(o);
+          if (value != null) {
+            result += jsonField.name.hashCode() ^ valueHashCode(value);
+          }
+        }
+      }
+      return result;
+    } catch (IllegalAccessException e) {
+      return GsonSingleton.getGson().toJson(o).hashCode();
+    }
+  }
+
+  /**
+   * Compares two values (field values, list elements, map values, etc.) as they would appear in JSON.
+   *
+   * @param a the first value
+   * @param b the second value
+   * @return true if the values are equal
+   */
+  public static boolean valueEquals(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof Number && b instanceof Number) {
+      return a.getClass() == b.getClass() ? a.equals(b) : a.toString().equals(b.toString());
+    }
+    if (a instanceof List && b instanceof List) {
+      return elementsEqual((List<?>) a, (List<?>) b);
+    }
+    if (a instanceof Object[] && b instanceof Object[]) {
+      return elementsEqual(Arrays.asList((Object[]) a), Arrays.asList((Object[]) b));
+    }
+    if (isModel(a) || isModel(b)) {
+      if (a.getClass() == b.getClass()) {
+        return a.equals(b);
+      }
+      if ((isModel(a) || a instanceof Map) && (isModel(b) || b instanceof Map)) {
+        return mapsEqual(toMap(a), toMap(b));
+      }
+      return false;
+    }
+    if (a instanceof Map && b instanceof Map) {
+      return mapsEqual((Map<?, ?>) a, (Map<?, ?>) b);
+    }
+    return Objects.deepEquals(a, b);
+  }
+
+  /**
+   * Computes a hash code for a value, consistent with {@link #valueEquals(Object, Object)}.
+   *
+   * @param o the value
+   * @return the hash code
+   */
+  public static int valueHashCode(Object o) {
+    if (o == null) {
+      return 0;
+    }
+    if (o instanceof Number) {
+      return o.toString().hashCode();
+    }
+    if (o instanceof List) {
+      return elementsHashCode((List<?>) o);
+    }
+    if (o instanceof Object[]) {
+      return elementsHashCode(Arrays.asList((Object[]) o));
+    }
+    if (o instanceof Map) {
+      int result = 0;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+        if (entry.getValue() != null) {
+          result += Objects.hashCode(entry.getKey()) ^ valueHashCode(entry.getValue());
+        }
+      }
+      return result;
+    }
+    if (o.getClass().isArray()) {
+      return Arrays.deepHashCode(new Object[] {o});
+    }
+    return o.hashCode();
+  }
+
+  private static boolean isModel(Object o) {
+    return o instanceof GenericModel || o instanceof DynamicModel;
+  }
+
+  private static boolean elementsEqual(List<?> a, List<?> b) {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    Iterator<?> iterA = a.iterator();
+    Iterator<?> iterB = b.iterator();
+    while (iterA.hasNext()) {
+      if (!valueEquals(iterA.next(), iterB.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int elementsHashCode(Collection<?> elements) {
+    int result = 1;
+    for (Object element : elements) {
+      result = 31 * result + valueHashCode(element);
+    }
+    return result;
+  }
+
+  private static boolean mapsEqual(Map<?, ?> a, Map<?, ?> b) {
+    // Null-valued entries are ignored, so a missing entry in one map matches a null-valued entry in the other.
+    int count = 0;
+    for (Map.Entry<?, ?> entry : a.entrySet()) {
+      if (entry.getValue() != null) {
+        if (!valueEquals(entry.getValue(), b.get(entry.getKey()))) {
+          return false;
+        }
+        count++;
+      }
+    }
+    return count == nonNullValueCount(b);
+  }
+
+  private static int nonNullValueCount(Map<?, ?> map) {
+    int count = 0;
+    for (Object value : map.values()) {
+      if (value != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the JSON properties of a model (or the map itself) as a Map.
+   * This is only needed when a model is compared with a value of a different class.
+   */
+  private static Map<?, ?> toMap(Object o) {
+    if (o instanceof Map) {
+      return (Map<?, ?>) o;
+    }
+    boolean dynamicModel = o instanceof DynamicModel;
+    Map<String, Object> result = new LinkedHashMap<>();
+    try {
+      for (Class<?> clazz = o.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+        for (JsonField jsonField : ModelClassMetadata.forClass(clazz).getJsonFields(dynamicModel)) {
+          Object value = jsonField.field.get(o);
+          if (value != null) {
+            result.put(jsonField.name, value);
+          }
+        }
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+    if (dynamicModel) {
+      DynamicModel<?> model = (DynamicModel<?>) o;
+      for (String name : model.getPropertyNames()) {
+        Object value = model.get(name);
+        if (value != null) {
+          result.put(name, value);
+        }
+      }
+    }
+    return result;
+  }
+}
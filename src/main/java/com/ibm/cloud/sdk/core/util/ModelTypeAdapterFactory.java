@@ -0,0 +1,36 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.util;
+
+import com.google.gson.TypeAdapterFactory;
+
+/**
+ * A TypeAdapterFactory that provides TypeAdapters for SDK model classes, typically generated at build time
+ * so that the models can be serialized and deserialized without reflection.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}: a library that contains them should list
+ * their fully-qualified class names in a resource named
+ * <code>META-INF/services/com.ibm.cloud.sdk.core.util.ModelTypeAdapterFactory</code>.
+ * Each implementation must have a public no-arg constructor.
+ * The {@link com.ibm.cloud.sdk.core.processor.ModelTypeAdapterProcessor} annotation processor generates such
+ * factories, and the resource that lists them, for the model classes of a library.
+ * <p>
+ * The discovered factories are registered with every Gson instance created by {@link GsonSingleton} after
+ * the SDK's own type adapters and reflection-based factories, so they take precedence for any type that they
+ * support (including DynamicModel subclasses and classes that use a discriminator).
+ * As with any TypeAdapterFactory, the create() method should return null for types that the factory does not
+ * handle.
+ */
+public interface ModelTypeAdapterFactory extends TypeAdapterFactory {
+}
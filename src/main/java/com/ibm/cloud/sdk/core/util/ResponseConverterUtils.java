@@ -16,8 +16,9 @@ package com.ibm.cloud.sdk.core.util;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 
-import com.google.gson.JsonObject;
+import com.ibm.cloud.sdk.core.http.NdJsonReader;
 import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServerSentEventReader;
 import com.ibm.cloud.sdk.core.service.model.ObjectModel;
 
 import okhttp3.Response;
@@ -35,6 +36,7 @@ public final class ResponseConverterUtils {
 
   /**
    * Creates a generic {@link ResponseConverter} for a generic class.
+   * Only the specified top-level property of the response body is deserialized; the remainder of the body is skipped.
    *
    * @param <T> the generic type
    * @param type the type
@@ -45,12 +47,44 @@ public final class ResponseConverterUtils {
     return new ResponseConverter<T>() {
       @Override
       public T convert(Response response) {
-        JsonObject json = ResponseUtils.getJsonObject(response);
-        return GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(json.get(property), type);
+        return ResponseUtils.getValueAtPath(response, type, property);
       }
     };
   }
 
+  /**
+   * Creates a {@link ResponseConverter} that deserializes only the value identified by a JSON Pointer (RFC 6901),
+   * such as "/result/items/0". The remainder of the response body is skipped.
+   *
+   * @param <T> the generic type
+   * @param type the type of the value
+   * @param jsonPointer the JSON Pointer identifying the value; "" identifies the entire response body
+   * @return the converter
+   */
+  public static <T> ResponseConverter<T> getGenericObjectAtPointer(final Type type, final String jsonPointer) {
+    final String[] path = parseJsonPointer(jsonPointer);
+    return new ResponseConverter<T>() {
+      @Override
+      public T convert(Response response) {
+        return ResponseUtils.getValueAtPath(response, type, path);
+      }
+    };
+  }
+
+  private static String[] parseJsonPointer(String jsonPointer) {
+    if (jsonPointer == null || (!jsonPointer.isEmpty() && jsonPointer.charAt(0) != '/')) {
+      throw new IllegalArgumentException("jsonPointer must be empty or start with '/'");
+    }
+    if (jsonPointer.isEmpty()) {
+      return new String[0];
+    }
+    String[] path = jsonPointer.substring(1).split("/", -1);
+    for (int i = 0; i < path.length; i++) {
+      path[i] = path[i].replace("~1", "/").replace("~0", "~");
+    }
+    return path;
+  }
+
   /**
    * Creates an {@link InputStream} converter.
    *
@@ -65,6 +99,50 @@ public final class ResponseConverterUtils {
     };
   }
 
+  /**
+   * Creates a {@link ResponseConverter} for a newline-delimited JSON ("application/x-ndjson") response.
+   * The records are deserialized one at a time as the caller iterates over the returned reader.
+   *
+   * @param <T> the generic type
+   * @param type the type of each record
+   * @return the newline-delimited JSON converter
+   */
+  public static <T> ResponseConverter<NdJsonReader<T>> getNdJson(final Type type) {
+    return new ResponseConverter<NdJsonReader<T>>() {
+      @Override
+      public NdJsonReader<T> convert(Response response) {
+        return new NdJsonReader<>(response.body().source(), type);
+      }
+    };
+  }
+
+  /**
+   * Creates a {@link ResponseConverter} for a "text/event-stream" response whose event data is returned as a String.
+   *
+   * @return the event stream converter
+   */
+  public static ResponseConverter<ServerSentEventReader<String>> getServerSentEvents() {
+    return getServerSentEvents(String.class);
+  }
+
+  /**
+   * Creates a {@link ResponseConverter} for a "text/event-stream" response.
+   * The events are parsed incrementally as the caller iterates over the returned reader,
+   * and each event's data field is decoded into the specified type.
+   *
+   * @param <T> the generic type
+   * @param dataType the type into which each event's data field should be decoded
+   * @return the event stream converter
+   */
+  public static <T> ResponseConverter<ServerSentEventReader<T>> getServerSentEvents(final Type dataType) {
+    return new ResponseConverter<ServerSentEventReader<T>>() {
+      @Override
+      public ServerSentEventReader<T> convert(Response response) {
+        return new ServerSentEventReader<>(response.body().source(), dataType);
+      }
+    };
+  }
+
   /**
    * Creates a generic {@link ResponseConverter} for a POJO class that extends ObjectModel.
    *
@@ -141,13 +219,15 @@ public final class ResponseConverterUtils {
 
   /**
    * Gets the void converter.
+   * The response body (if any) is discarded as described by {@link ResponseUtils#discard(Response)}.
+   *
    * @return the void converter
    */
   public static ResponseConverter<Void> getVoid() {
     return new ResponseConverter<Void>() {
       @Override
       public Void convert(Response response) {
-        ResponseUtils.getString(response); // read the response to prevent a connection leak
+        ResponseUtils.discard(response); // release the response body to prevent a connection leak
         return null;
       }
     };
@@ -22,10 +22,14 @@ import java.util.logging.Logger;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.ibm.cloud.sdk.core.service.model.ObjectModel;
 
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
 
 /**
  * Utility class to manage service responses.
@@ -36,6 +40,11 @@ public final class ResponseUtils {
   private static final String ERROR_MESSAGE = "Error reading the http response";
   private static final Logger LOG = Logger.getLogger(ResponseUtils.class.getName());
 
+  /** The default maximum number of bytes skipped by {@link #discard(Response)}. */
+  public static final long DEFAULT_MAX_DISCARD_SIZE = 64 * 1024;
+
+  private static volatile long maxDiscardSize = DEFAULT_MAX_DISCARD_SIZE;
+
   private ResponseUtils() {
     // This is a utility class - no instantiation allowed.
   }
@@ -152,6 +161,83 @@ public final class ResponseUtils {
     }
   }
 
+  /**
+   * Parses a single value nested within the {@link Response} into the specified type.
+   * <p>
+   * The response body is read as a stream; every value other than the one at the requested path is skipped
+   * without being materialized, and only the target value is bound to the specified type.
+   * Each path element is either an object member name or, when the enclosing value is an array, a zero-based index.
+   *
+   * @param <T> the generic type to use when parsing the value
+   * @param response the HTTP response
+   * @param valueType a Type instance which describes the type of the value
+   * @param path the member names and/or array indexes leading to the value
+   * @return the value, or null if the response does not contain a value at the specified path
+   */
+  public static <T> T getValueAtPath(Response response, Type valueType, String... path) {
+    try {
+      JsonReader reader = new JsonReader(response.body().charStream());
+      reader.setStrictness(Strictness.LENIENT);
+      if (!seek(reader, path)) {
+        return null;
+      }
+      return GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(reader, valueType);
+    } catch (final IOException e) {
+      LOG.log(Level.SEVERE, ERROR_MESSAGE, e);
+      throw new RuntimeException(ERROR_MESSAGE, e);
+    } finally {
+      response.body().close();
+    }
+  }
+
+  /**
+   * Advances the reader to the value at the specified path.
+   *
+   * @param reader the JSON reader
+   * @param path the member names and/or array indexes leading to the value
+   * @return true if the reader is positioned at the value, false if the value does not exist
+   * @throws IOException if the JSON could not be read
+   */
+  private static boolean seek(JsonReader reader, String[] path) throws IOException {
+    for (String element : path) {
+      JsonToken token = reader.peek();
+      if (token == JsonToken.BEGIN_OBJECT) {
+        reader.beginObject();
+        boolean found = false;
+        while (!found && reader.hasNext()) {
+          if (element.equals(reader.nextName())) {
+            found = true;
+          } else {
+            reader.skipValue();
+          }
+        }
+        if (!found) {
+          return false;
+        }
+      } else if (token == JsonToken.BEGIN_ARRAY) {
+        int index;
+        try {
+          index = Integer.parseInt(element);
+        } catch (NumberFormatException e) {
+          return false;
+        }
+        if (index < 0) {
+          return false;
+        }
+        reader.beginArray();
+        for (int i = 0; i < index && reader.hasNext(); i++) {
+          reader.skipValue();
+        }
+        if (!reader.hasNext()) {
+          return false;
+        }
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns a String representation of the response.
    *
@@ -167,4 +253,68 @@ public final class ResponseUtils {
     }
   }
 
+  /**
+   * Returns the maximum number of bytes that {@link #discard(Response)} will skip.
+   *
+   * @return the maximum discard size in bytes
+   */
+  public static long getMaxDiscardSize() {
+    return maxDiscardSize;
+  }
+
+  /**
+   * Sets the maximum number of bytes that {@link #discard(Response)} will skip before giving up
+   * on the response body.
+   *
+   * @param maxBytes the maximum discard size in bytes
+   */
+  public static void setMaxDiscardSize(long maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("maxBytes cannot be negative");
+    }
+    maxDiscardSize = maxBytes;
+  }
+
+  /**
+   * Discards the response body, skipping at most {@link #getMaxDiscardSize()} bytes.
+   *
+   * @param response an HTTP response
+   * @see #discard(Response, long)
+   */
+  public static void discard(Response response) {
+    discard(response, maxDiscardSize);
+  }
+
+  /**
+   * Discards the response body without decoding it.
+   * <p>
+   * A body of up to maxBytes bytes is skipped so that the connection can be reused for another request.
+   * A larger body (or one whose Content-Length already exceeds maxBytes) is closed without being read further,
+   * which gives up the connection rather than transferring the remainder of the body.
+   *
+   * @param response an HTTP response
+   * @param maxBytes the maximum number of bytes to skip
+   */
+  public static void discard(Response response, long maxBytes) {
+    ResponseBody body = response.body();
+    if (body == null) {
+      return;
+    }
+    try {
+      if (body.contentLength() <= maxBytes) {
+        BufferedSource source = body.source();
+        long skipped = 0;
+        while (skipped <= maxBytes && source.request(1)) {
+          long size = source.getBuffer().size();
+          source.skip(size);
+          skipped += size;
+        }
+      }
+    } catch (final IOException e) {
+      LOG.log(Level.SEVERE, ERROR_MESSAGE, e);
+      throw new RuntimeException(ERROR_MESSAGE, e);
+    } finally {
+      body.close();
+    }
+  }
 }
@@ -32,6 +32,22 @@ final class TypeAdapterRuntimeTypeWrapper<T> extends TypeAdapter<T> {
   private final TypeAdapter<T> delegate;
   private final Type type;
 
+  // The most recently chosen adapter for a runtime type other than the declared type.
+  private volatile RuntimeTypeAdapter cachedChoice;
+
+  /**
+   * Associates a runtime type with the TypeAdapter chosen for it.
+   */
+  private static final class RuntimeTypeAdapter {
+    final Type runtimeType;
+    final TypeAdapter<?> adapter;
+
+    RuntimeTypeAdapter(Type runtimeType, TypeAdapter<?> adapter) {
+      this.runtimeType = runtimeType;
+      this.adapter = adapter;
+    }
+  }
+
   TypeAdapterRuntimeTypeWrapper(Gson context, TypeAdapter<T> delegate, Type type) {
     this.context = context;
     this.delegate = delegate;
@@ -54,7 +70,10 @@ final class TypeAdapterRuntimeTypeWrapper<T> extends TypeAdapter<T> {
 
     TypeAdapter chosen = delegate;
     Type runtimeType = getRuntimeTypeIfMoreSpecific(type, value);
-    if (runtimeType != type) {
+    RuntimeTypeAdapter cached = cachedChoice;
+    if (runtimeType != type && cached != null && cached.runtimeType == runtimeType) {
+      chosen = cached.adapter;
+    } else if (runtimeType != type) {
       TypeAdapter runtimeTypeAdapter = context.getAdapter(TypeToken.get(runtimeType));
       if (!(runtimeTypeAdapter instanceof DynamicModelTypeAdapterFactory.Adapter)) {
         // The user registered a type adapter for the runtime type, so we will use that
@@ -67,6 +86,7 @@ final class TypeAdapterRuntimeTypeWrapper<T> extends TypeAdapter<T> {
         // Use the type adapter for runtime type
         chosen = runtimeTypeAdapter;
       }
+      cachedChoice = new RuntimeTypeAdapter(runtimeType, chosen);
     }
     chosen.write(out, value);
   }
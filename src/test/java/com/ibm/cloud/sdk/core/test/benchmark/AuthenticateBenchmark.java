@@ -0,0 +1,135 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.cloud.sdk.core.security.Authenticator;
+import com.ibm.cloud.sdk.core.security.BasicAuthenticator;
+import com.ibm.cloud.sdk.core.security.BearerTokenAuthenticator;
+import com.ibm.cloud.sdk.core.security.CloudPakForDataAuthenticator;
+import com.ibm.cloud.sdk.core.security.ContainerAuthenticator;
+import com.ibm.cloud.sdk.core.security.IamAuthenticator;
+import com.ibm.cloud.sdk.core.security.MCSPAuthenticator;
+import com.ibm.cloud.sdk.core.security.MCSPV2Authenticator;
+
+import okhttp3.Request;
+
+/**
+ * Measures authenticate() for each type of authenticator, once the authenticator holds a valid token.
+ * The same request builder is used for every operation, so that only the work done by the authenticator
+ * is measured. Run with "-prof gc" to also measure the allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthenticateBenchmark {
+  @Param({ "basic", "bearerToken", "iam", "container", "cp4d", "mcsp", "mcspv2" })
+  private String authType;
+
+  private TokenServer server;
+  private Authenticator authenticator;
+  private Request.Builder requestBuilder;
+
+  @Setup
+  public void setup() throws IOException {
+    switch (authType) {
+      case "basic":
+        authenticator = new BasicAuthenticator.Builder()
+            .username("benchmark-user")
+            .password("benchmark-password")
+            .build();
+        break;
+      case "bearerToken":
+        authenticator = new BearerTokenAuthenticator(TokenServer.jwt());
+        break;
+      case "iam":
+        server = new TokenServer(TokenServer.iamTokenResponse());
+        authenticator = new IamAuthenticator.Builder()
+            .apikey("benchmark-apikey")
+            .url(server.getUrl())
+            .build();
+        break;
+      case "container":
+        server = new TokenServer(TokenServer.iamTokenResponse());
+        authenticator = new ContainerAuthenticator.Builder()
+            .crTokenFilename("src/test/resources/cr-token.txt")
+            .iamProfileName("benchmark-profile")
+            .url(server.getUrl())
+            .build();
+        break;
+      case "cp4d":
+        server = new TokenServer(TokenServer.jwtTokenResponse());
+        authenticator = new CloudPakForDataAuthenticator.Builder()
+            .username("benchmark-user")
+            .password("benchmark-password")
+            .url(server.getUrl())
+            .build();
+        break;
+      case "mcsp":
+        server = new TokenServer(TokenServer.jwtTokenResponse());
+        authenticator = new MCSPAuthenticator.Builder()
+            .apikey("benchmark-apikey")
+            .url(server.getUrl())
+            .build();
+        break;
+      case "mcspv2":
+        server = new TokenServer(TokenServer.jwtTokenResponse());
+        authenticator = new MCSPV2Authenticator.Builder()
+            .apikey("benchmark-apikey")
+            .url(server.getUrl())
+            .scopeCollectionType("accounts")
+            .scopeId("benchmark-account")
+            .build();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown authenticator type: " + authType);
+    }
+    requestBuilder = new Request.Builder().url("https://test.com");
+    authenticator.authenticate(requestBuilder);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    if (server != null) {
+      if (server.getRequestCount() != 1) {
+        throw new IllegalStateException("Expected a single token request, but got " + server.getRequestCount());
+      }
+      server.shutdown();
+    }
+  }
+
+  @Benchmark
+  public Request.Builder authenticate() {
+    authenticator.authenticate(requestBuilder);
+    return requestBuilder;
+  }
+}
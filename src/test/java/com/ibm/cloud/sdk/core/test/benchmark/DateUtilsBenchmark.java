@@ -0,0 +1,59 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.cloud.sdk.core.util.DateUtils;
+
+/**
+ * Measures DateUtils.parseAsDateTime() for each of the supported date-time formats.
+ * Run with "-prof gc" to also measure the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DateUtilsBenchmark {
+  @Param({
+    "2024-05-06T12:34:56.789Z",      // RFC 3339, UTC
+    "2024-05-06T12:34:56.789-06:00", // RFC 3339, offset
+    "2024-05-06T12:34:56-0600",      // offset without colon
+    "2024-05-06T12:34:56",           // no time zone
+    "2024-05-06 12:34:56",           // "Dialog"
+    "2024-05-06T12:34+0000",         // IAM Identity
+    "Mon, 06 May 2024 12:34:56 GMT", // RFC 1123
+    "1714998896789"                  // milliseconds since epoch time
+  })
+  private String input;
+
+  @Benchmark
+  public Date parseAsDateTime() {
+    return DateUtils.parseAsDateTime(input);
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.cloud.sdk.core.test.model.generated.Animal;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * Measures the deserialization of a list of 1000 polymorphic models, each of which is selected by its discriminator
+ * property, with the discriminator as the first or the last property of each JSON object.
+ * Each object has four declared properties (including the discriminator) and three additional properties.
+ * Run with "-prof gc" to also measure the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DiscriminatorDeserializationBenchmark {
+  private static final Type LIST_TYPE = new TypeToken<List<Animal>>() { }.getType();
+  private static final int SIZE = 1000;
+
+  @Param({ "first", "last" })
+  private String discriminatorPosition;
+
+  private Gson gson;
+  private String json;
+
+  @Setup
+  public void setup() {
+    gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < SIZE; i++) {
+      String discriminator = "\"animal_type\": \"" + (i % 2 == 0 ? "dog" : "cat") + "\"";
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append('{');
+      if ("first".equals(discriminatorPosition)) {
+        sb.append(discriminator).append(',');
+      }
+      sb.append("\"breed\": \"breed-").append(i).append("\", \"color\": \"brown\", \"tail_length\": ").append(i)
+          .append(", \"created_at\": \"2024-05-06T12:34:56.789Z\", ")
+          .append("\"href\": \"https://example.com/animals/").append(i).append("\", ")
+          .append("\"status\": \"available\"");
+      if ("last".equals(discriminatorPosition)) {
+        sb.append(',').append(discriminator);
+      }
+      sb.append('}');
+    }
+    json = sb.append(']').toString();
+  }
+
+  @Benchmark
+  public List<Animal> fromJson() {
+    return gson.fromJson(json, LIST_TYPE);
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.cloud.sdk.core.test.model.generated.Foo;
+import com.ibm.cloud.sdk.core.test.model.generated.ModelAPFoo;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * Measures the serialization of a large list of DynamicModel instances, each of which has two declared properties
+ * and ten additional properties. Run with "-prof gc" to also measure the allocations per operation.
+ * <ul>
+ * <li>toJson - serialization to a String, as performed for a request body
+ * <li>toWriter - serialization to a writer that discards its output, which excludes the allocation of the
+ * JSON string itself and leaves only the allocations made by the serializer
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DynamicModelSerializationBenchmark {
+  private static final Writer DISCARDING_WRITER = new Writer() {
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  };
+
+  private static final Type LIST_TYPE = new TypeToken<List<ModelAPFoo>>() { }.getType();
+
+  @Param({ "1000" })
+  private int size;
+
+  private Gson gson;
+  private List<ModelAPFoo> models;
+  private JsonWriter writer;
+
+  @Setup
+  public void setup() {
+    gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    models = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ModelAPFoo model = new ModelAPFoo();
+      model.setProp1("model-" + i);
+      model.setProp2(i);
+      for (int j = 0; j < 10; j++) {
+        Foo foo = new Foo();
+        foo.setFoo("value-" + j);
+        foo.setBar(j);
+        model.put("property_" + j, foo);
+      }
+      models.add(model);
+    }
+    writer = new JsonWriter(DISCARDING_WRITER);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return gson.toJson(models);
+  }
+
+  @Benchmark
+  public void toWriter() throws IOException {
+    gson.toJson(models, LIST_TYPE, writer);
+    writer.flush();
+  }
+}
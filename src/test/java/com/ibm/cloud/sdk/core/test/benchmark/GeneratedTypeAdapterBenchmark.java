@@ -0,0 +1,115 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.cloud.sdk.core.test.model.processor.Instance;
+import com.ibm.cloud.sdk.core.util.ByteArrayTypeAdapter;
+import com.ibm.cloud.sdk.core.util.DateTimeTypeAdapter;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * Compares the TypeAdapters generated by the ModelTypeAdapterProcessor with Gson's reflection-based adapter,
+ * by deserializing and serializing a list of Instance models.
+ * <ul>
+ * <li>generated - GsonSingleton, which uses the generated adapters
+ * <li>reflective - a Gson configured like GsonSingleton's, but without the generated adapters
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class GeneratedTypeAdapterBenchmark {
+  private static final Type LIST_TYPE = new TypeToken<List<Instance>>() { }.getType();
+
+  @Param({ "generated", "reflective" })
+  private String adapter;
+
+  @Param({ "1000" })
+  private int size;
+
+  private Gson gson;
+  private String json;
+  private List<Instance> models;
+
+  @Setup
+  public void setup() {
+    if ("generated".equals(adapter)) {
+      gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    } else {
+      gson = new GsonBuilder()
+          .setObjectToNumberStrategy(ToNumberPolicy.LAZILY_PARSED_NUMBER)
+          .setNumberToNumberStrategy(ToNumberPolicy.LAZILY_PARSED_NUMBER)
+          .registerTypeAdapter(Date.class, new DateTimeTypeAdapter())
+          .registerTypeAdapter(byte[].class, new ByteArrayTypeAdapter())
+          .registerTypeAdapter(LazilyParsedNumber.class, GsonSingleton.LAZILY_PARSED_NUMBER_ADAPTER)
+          .disableHtmlEscaping()
+          .create();
+    }
+
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append("{\"id\":\"instance-").append(i).append("\",")
+          .append("\"href\":\"https://example.com/instances/instance-").append(i).append("\",")
+          .append("\"name\":\"instance ").append(i).append("\",")
+          .append("\"memory\":").append(1024 * (i % 16 + 1)).append(',')
+          .append("\"running\":").append(i % 2 == 0).append(',')
+          .append("\"cpu_load\":0.").append(i % 100).append(',')
+          .append("\"tags\":[\"a\",\"b\",\"c\"],")
+          .append("\"zone\":{\"id\":\"zone-").append(i % 3).append("\"},")
+          .append("\"volumes\":[{\"id\":\"volume-").append(i).append("\"}],")
+          .append("\"primary_network_interface\":{\"address\":\"10.0.0.").append(i % 256)
+          .append("\",\"port_speed\":1000}}");
+    }
+    json = sb.append(']').toString();
+    models = gson.fromJson(json, LIST_TYPE);
+  }
+
+  @Benchmark
+  public List<Instance> fromJson() {
+    return gson.fromJson(json, LIST_TYPE);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return gson.toJson(models, LIST_TYPE);
+  }
+}
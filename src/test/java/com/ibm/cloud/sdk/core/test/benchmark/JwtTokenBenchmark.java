@@ -0,0 +1,74 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import static com.ibm.cloud.sdk.core.test.TestUtils.loadFixture;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.cloud.sdk.core.security.Cp4dToken;
+import com.ibm.cloud.sdk.core.security.Cp4dTokenResponse;
+import com.ibm.cloud.sdk.core.security.JsonWebToken;
+import com.ibm.cloud.sdk.core.security.MCSPToken;
+import com.ibm.cloud.sdk.core.security.MCSPTokenResponse;
+
+/**
+ * Measures the construction of the tokens that are derived from a JSON Web Token (which requires
+ * decoding the JWT's "iat" and "exp" claims), for a CP4D token with a small payload and an MCSP token
+ * with a large payload. The full decoding of the MCSP token's JWT by {@link JsonWebToken} is measured for
+ * reference. Run with "-prof gc" to also measure the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtTokenBenchmark {
+  private Cp4dTokenResponse cp4dResponse;
+  private MCSPTokenResponse mcspResponse;
+
+  @Setup
+  public void setup() throws FileNotFoundException {
+    cp4dResponse = loadFixture("src/test/resources/cp4d_token.json", Cp4dTokenResponse.class);
+    mcspResponse = loadFixture("src/test/resources/mcsp_token.json", MCSPTokenResponse.class);
+  }
+
+  @Benchmark
+  public Cp4dToken cp4dToken() {
+    return new Cp4dToken(cp4dResponse);
+  }
+
+  @Benchmark
+  public MCSPToken mcspToken() {
+    return new MCSPToken(mcspResponse);
+  }
+
+  @Benchmark
+  public JsonWebToken mcspJsonWebToken() {
+    return new JsonWebToken(mcspResponse.getToken());
+  }
+}
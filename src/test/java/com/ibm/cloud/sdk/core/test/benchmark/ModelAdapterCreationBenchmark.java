@@ -0,0 +1,100 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ibm.cloud.sdk.core.test.model.generated.Animal;
+import com.ibm.cloud.sdk.core.test.model.generated.AnimalCat;
+import com.ibm.cloud.sdk.core.test.model.generated.AnimalDog;
+import com.ibm.cloud.sdk.core.test.model.generated.ModelAPFoo;
+import com.ibm.cloud.sdk.core.test.model.generated.QueryResponse;
+import com.ibm.cloud.sdk.core.test.model.generated.Truck;
+import com.ibm.cloud.sdk.core.test.model.generated.Vehicle;
+import com.ibm.cloud.sdk.core.util.DiscriminatorBasedTypeAdapterFactory;
+import com.ibm.cloud.sdk.core.util.DynamicModelTypeAdapterFactory;
+
+/**
+ * Measures the creation of the TypeAdapters for a set of models by a new Gson instance that uses the core
+ * TypeAdapterFactories.
+ * <ul>
+ * <li>cold - the first adapter creation in a new JVM, when no model class metadata has been computed yet
+ * (one measurement per fork)
+ * <li>warm - adapter creation by a new Gson instance after other Gson instances have created the same adapters
+ * </ul>
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelAdapterCreationBenchmark {
+  private static final Class<?>[] MODELS = {
+    Animal.class, AnimalCat.class, AnimalDog.class, Vehicle.class, Truck.class, ModelAPFoo.class,
+    QueryResponse.class
+  };
+
+  private GsonBuilder builder;
+  private Gson gson;
+
+  @Setup(Level.Trial)
+  public void setupBuilder() {
+    builder = new GsonBuilder()
+        .registerTypeAdapterFactory(new DynamicModelTypeAdapterFactory())
+        .registerTypeAdapterFactory(new DiscriminatorBasedTypeAdapterFactory());
+    // Load Gson's own classes, so that the cold measurement covers only the model adapters.
+    builder.create().getAdapter(String.class);
+  }
+
+  @Setup(Level.Invocation)
+  public void setupGson() {
+    gson = builder.create();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Fork(20)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public void cold(Blackhole bh) {
+    createAdapters(bh);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @Fork(1)
+  @Warmup(iterations = 3, time = 2)
+  @Measurement(iterations = 5, time = 2)
+  public void warm(Blackhole bh) {
+    createAdapters(bh);
+  }
+
+  private void createAdapters(Blackhole bh) {
+    for (Class<?> model : MODELS) {
+      bh.consume(gson.getAdapter(model));
+    }
+  }
+}
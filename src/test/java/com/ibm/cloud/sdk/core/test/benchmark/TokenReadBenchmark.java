@@ -0,0 +1,79 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.cloud.sdk.core.security.IamAuthenticator;
+
+/**
+ * Measures the throughput of getToken() on an authenticator (shared by all benchmark threads) that holds
+ * a valid token, with one thread and with eight threads.
+ * The throughput with eight threads only reflects scaling when the machine has at least eight CPUs;
+ * on fewer CPUs it shows the cost of contention between the threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenReadBenchmark {
+  private TokenServer server;
+  private IamAuthenticator authenticator;
+
+  @Setup
+  public void setup() throws IOException {
+    server = new TokenServer(TokenServer.iamTokenResponse());
+    authenticator = new IamAuthenticator.Builder()
+        .apikey("benchmark-apikey")
+        .url(server.getUrl())
+        .build();
+    authenticator.getToken();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    if (server.getRequestCount() != 1) {
+      throw new IllegalStateException("Expected a single token request, but got " + server.getRequestCount());
+    }
+    server.shutdown();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String oneThread() {
+    return authenticator.getToken();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String eightThreads() {
+    return authenticator.getToken();
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.apache.commons.lang3.StringUtils;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * A mock token service that answers every request with the same JSON response, used by the benchmarks
+ * to provide authenticators with a token that remains valid for the duration of a benchmark.
+ */
+public class TokenServer {
+  private final MockWebServer server = new MockWebServer();
+
+  /**
+   * Starts a token server that answers every request with the specified JSON response body.
+   *
+   * @param responseBody the response body
+   * @throws IOException if the server could not be started
+   */
+  public TokenServer(final String responseBody) throws IOException {
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(responseBody);
+      }
+    });
+    server.start();
+  }
+
+  /**
+   * Returns an IAM token response for a token that expires in one hour.
+   *
+   * @return the response body
+   */
+  public static String iamTokenResponse() {
+    long now = System.currentTimeMillis() / 1000;
+    return "{\"access_token\": \"benchmark-access-token\", \"refresh_token\": \"benchmark-refresh-token\", "
+        + "\"token_type\": \"Bearer\", \"expires_in\": 3600, \"expiration\": " + (now + 3600) + "}";
+  }
+
+  /**
+   * Returns an unsigned JSON Web Token that was issued now and expires in one hour.
+   *
+   * @return the JSON Web Token
+   */
+  public static String jwt() {
+    long now = System.currentTimeMillis() / 1000;
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String header = "{\"typ\":\"JWT\",\"alg\":\"HS256\"}";
+    String payload = "{\"sub\":\"benchmark\",\"iss\":\"benchmark\",\"iat\":" + now + ",\"exp\":" + (now + 3600) + "}";
+    return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+        + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".c2lnbmF0dXJl";
+  }
+
+  /**
+   * Returns a token response (as returned by the CP4D and MCSP token services) for a JSON Web Token
+   * that expires in one hour.
+   *
+   * @return the response body
+   */
+  public static String jwtTokenResponse() {
+    long now = System.currentTimeMillis() / 1000;
+    return "{\"token\": \"" + jwt() + "\", \"token_type\": \"jwt\", \"expires_in\": 3600, "
+        + "\"expiration\": " + (now + 3600) + "}";
+  }
+
+  /**
+   * @return the server url, without a trailing slash
+   */
+  public String getUrl() {
+    return StringUtils.chop(server.url("/").toString());
+  }
+
+  /**
+   * @return the number of requests received by the server
+   */
+  public int getRequestCount() {
+    return server.getRequestCount();
+  }
+
+  /**
+   * Shuts down the server.
+   *
+   * @throws IOException if the server could not be shut down
+   */
+  public void shutdown() throws IOException {
+    server.shutdown();
+  }
+}
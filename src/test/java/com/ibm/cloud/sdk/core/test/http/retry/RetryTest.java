@@ -19,31 +19,40 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.mockito.Mockito;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.ibm.cloud.sdk.core.http.DefaultRetryStrategy;
 import com.ibm.cloud.sdk.core.http.HttpClientSingleton;
+import com.ibm.cloud.sdk.core.http.HttpHeaders;
 import com.ibm.cloud.sdk.core.http.HttpMediaType;
 import com.ibm.cloud.sdk.core.http.IRetryInterceptor;
 import com.ibm.cloud.sdk.core.http.IRetryStrategy;
 import com.ibm.cloud.sdk.core.http.RequestBuilder;
 import com.ibm.cloud.sdk.core.http.Response;
 import com.ibm.cloud.sdk.core.http.RetryInterceptor;
+import com.ibm.cloud.sdk.core.http.RetryPolicy;
 import com.ibm.cloud.sdk.core.http.ServiceCall;
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
 import com.ibm.cloud.sdk.core.service.BaseService;
+import com.ibm.cloud.sdk.core.service.exception.InternalServerErrorException;
 import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.service.exception.ServiceUnavailableException;
 import com.ibm.cloud.sdk.core.service.exception.TooManyRequestsException;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
 import com.ibm.cloud.sdk.core.test.BaseServiceUnitTest;
@@ -53,6 +62,7 @@ import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 
 public class RetryTest extends BaseServiceUnitTest {
   private static final Logger LOG = Logger.getLogger(RetryTest.class.getName());
@@ -86,6 +96,18 @@ public class RetryTest extends BaseServiceUnitTest {
       RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getServiceUrl() + "/v1/test"));
       return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TestModel.class));
     }
+
+    ServiceCall<TestModel> testMethod(RetryPolicy retryPolicy) {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getServiceUrl() + "/v1/test"))
+          .retryPolicy(retryPolicy);
+      return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TestModel.class));
+    }
+
+    ServiceCall<TestModel> testPostMethod() {
+      RequestBuilder builder = RequestBuilder.post(HttpUrl.parse(getServiceUrl() + "/v1/test"));
+      builder.bodyContent("{\"name\": \"value\"}", HttpMediaType.APPLICATION_JSON);
+      return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TestModel.class));
+    }
   }
 
   private RetryTest.TestService service;
@@ -302,4 +324,235 @@ public class RetryTest extends BaseServiceUnitTest {
     // Reset the retry strategy to the default.
     HttpClientSingleton.setRetryStrategy(prevStrategy);
   }
+
+  /**
+   * Test that a retry which cannot complete before the call's deadline is not attempted.
+   */
+  @Test(timeOut = 2000)
+  public void testRetrySkippedByDeadline() {
+    server.enqueue(new MockResponse().setResponseCode(503).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .addHeader("Retry-After", "5").setBody("{\"error\": \"try again later\"}"));
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}"));
+
+    try {
+      service.testMethod().withDeadline(Duration.ofSeconds(1)).execute();
+      fail("Expected a ServiceUnavailableException");
+    } catch (ServiceUnavailableException e) {
+      assertEquals(503, e.getStatusCode());
+    }
+    assertEquals(1, server.getRequestCount());
+  }
+
+  /**
+   * Test that retries which fit within the call's deadline are still attempted.
+   */
+  @Test(timeOut = 4000)
+  public void testRetryWithinDeadline() {
+    server.enqueue(new MockResponse().setResponseCode(503).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .addHeader("Retry-After", "1").setBody("{\"error\": \"try again later\"}"));
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}"));
+
+    Response<TestModel> r = service.testMethod().addHeader("X-Test", "value")
+        .withDeadline(Duration.ofSeconds(3)).execute();
+    assertEquals(200, r.getStatusCode());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  /**
+   * Test that the deadline bounds the total time of the call.
+   */
+  @Test(timeOut = 3000)
+  public void testDeadlineExceeded() {
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}").setHeadersDelay(2, TimeUnit.SECONDS));
+
+    // The deadline is retained when a header is added after it was set.
+    ServiceCall<TestModel> call = service.testMethod().withDeadline(Duration.ofMillis(500)).addHeader("X-Test", "v");
+    try {
+      call.execute();
+      fail("Expected the call to time out");
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof InterruptedIOException);
+    }
+  }
+
+  /**
+   * Test that an idempotent request is retried after a transient I/O error.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testDeadlineNotSupported() {
+    // A ServiceCall implementation that does not override withDeadline() rejects a deadline
+    // rather than silently ignoring it.
+    ServiceCall<TestModel> call = Mockito.mock(ServiceCall.class, Mockito.CALLS_REAL_METHODS);
+    assertEquals(call.withDeadline(Duration.ZERO), call);
+    try {
+      call.withDeadline(Duration.ofSeconds(1));
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().startsWith("Deadlines are not supported"));
+    }
+  }
+
+  @Test(timeOut = 4000)
+  public void testRetryIOExceptionIdempotent() {
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}"));
+
+    Response<TestModel> r = service.testMethod().execute();
+    assertEquals(200, r.getStatusCode());
+    assertEquals("awesome", r.getResult().getSuccess());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  /**
+   * Test that a POST request without an Idempotency-Key is not retried after an I/O error.
+   */
+  @Test(timeOut = 4000)
+  public void testNoRetryIOExceptionPost() {
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}"));
+
+    try {
+      service.testPostMethod().execute();
+      fail("Expected an I/O error");
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+    assertEquals(1, server.getRequestCount());
+  }
+
+  /**
+   * Test that a POST request with an Idempotency-Key is retried after an I/O error, using the same key.
+   */
+  @Test(timeOut = 4000)
+  public void testRetryIOExceptionPostWithIdempotencyKey() throws Exception {
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}"));
+
+    Response<TestModel> r = service.testPostMethod().withIdempotencyKey().execute();
+    assertEquals(200, r.getStatusCode());
+    assertEquals(2, server.getRequestCount());
+
+    String key = server.takeRequest().getHeader(HttpHeaders.IDEMPOTENCY_KEY);
+    assertNotNull(key);
+    assertEquals(key, server.takeRequest().getHeader(HttpHeaders.IDEMPOTENCY_KEY));
+  }
+
+  /**
+   * Test that I/O errors stop being retried once the maximum number of retries is reached.
+   */
+  @Test(timeOut = 10000)
+  public void testRetryIOExceptionIsExhausted() {
+    for (int i = 0; i <= 5; i++) {
+      server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    }
+    try {
+      service.testMethod().execute();
+      fail("Expected an I/O error");
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+    assertEquals(4, server.getRequestCount());
+  }
+
+  /**
+   * Test that a per-request retry policy can disable retries.
+   */
+  @Test(timeOut = 2000)
+  public void testRetryPolicyNoRetries() {
+    server.enqueue(new MockResponse().setResponseCode(429).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"error\": \"too fast\"}"));
+    server.enqueue(new MockResponse().setResponseCode(200).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"success\": \"awesome\"}"));
+
+    try {
+      service.testMethod().withRetryPolicy(RetryPolicy.NO_RETRIES).execute();
+      fail("Expected a TooManyRequestsException");
+    } catch (TooManyRequestsException e) {
+      assertEquals(429, e.getStatusCode());
+    }
+    assertEquals(1, server.getRequestCount());
+  }
+
+  /**
+   * Test that a per-request retry policy controls the retryable status codes and the number of retries.
+   */
+  @Test(timeOut = 2000)
+  public void testRetryPolicyStatusCodes() {
+    RetryPolicy policy = new RetryPolicy.Builder()
+        .maxRetries(2)
+        .initialInterval(Duration.ofMillis(10))
+        .retryableStatusCodes(409)
+        .build();
+    for (int i = 0; i < 3; i++) {
+      server.enqueue(new MockResponse().setResponseCode(409).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+          .setBody("{\"error\": \"conflict\"}"));
+    }
+    server.enqueue(new MockResponse().setResponseCode(503).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"error\": \"unavailable\"}"));
+
+    try {
+      service.testMethod().withRetryPolicy(policy).execute();
+      fail("Expected a ServiceResponseException");
+    } catch (ServiceResponseException e) {
+      assertEquals(409, e.getStatusCode());
+    }
+    assertEquals(3, server.getRequestCount());
+
+    // 503 is not retryable under the policy.
+    try {
+      service.testMethod().withRetryPolicy(policy).execute();
+      fail("Expected a ServiceUnavailableException");
+    } catch (ServiceUnavailableException e) {
+      assertEquals(503, e.getStatusCode());
+    }
+    assertEquals(4, server.getRequestCount());
+  }
+
+  /**
+   * Test that a retry policy set through the RequestBuilder limits the total time spent on retries.
+   */
+  @Test(timeOut = 3000)
+  public void testRetryPolicyTimeBudget() {
+    RetryPolicy policy = new RetryPolicy.Builder()
+        .initialInterval(Duration.ofMillis(400))
+        .multiplier(1.0)
+        .totalTimeBudget(Duration.ofMillis(1000))
+        .build();
+    for (int i = 0; i < 5; i++) {
+      server.enqueue(new MockResponse().setResponseCode(500).addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+          .setBody("{\"error\": \"oops\"}"));
+    }
+
+    try {
+      service.testMethod(policy).execute();
+      fail("Expected an InternalServerErrorException");
+    } catch (InternalServerErrorException e) {
+      assertEquals(500, e.getStatusCode());
+    }
+    // The initial attempt plus two retries fit into the budget.
+    assertEquals(3, server.getRequestCount());
+  }
+
+  @Test
+  public void testRetryPolicyBackoff() {
+    RetryPolicy policy = new RetryPolicy.Builder()
+        .initialInterval(Duration.ofMillis(100))
+        .maxInterval(Duration.ofMillis(500))
+        .multiplier(3.0)
+        .build();
+    assertEquals(100, policy.calculateBackoff(0));
+    assertEquals(300, policy.calculateBackoff(1));
+    assertEquals(500, policy.calculateBackoff(2));
+    assertEquals(4, policy.getMaxRetries());
+    assertTrue(policy.isRetryableStatusCode(502));
+    assertTrue(!policy.isRetryableStatusCode(501));
+    assertEquals(1, policy.newBuilder().maxRetries(1).build().getMaxRetries());
+  }
 }
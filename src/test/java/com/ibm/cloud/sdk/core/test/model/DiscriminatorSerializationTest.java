@@ -15,6 +15,7 @@ package com.ibm.cloud.sdk.core.test.model;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -150,6 +151,22 @@ public class DiscriminatorSerializationTest {
     assertEquals(actual.vehicles, expected.vehicles);
   }
 
+  @Test
+  public void testVehicleListDiscriminatorNotFirst() {
+    String json = "{\"size\": 3, \"vehicles\": ["
+        + "{\"make\": \"Ford\", \"unknown\": [1, {\"a\": null, \"b\": [true]}], \"vehicle_type\": \"Car\","
+        + " \"body_style\": \"coupe\"},"
+        + "{\"vehicle_type\": \"truck\", \"make\": \"Ford\", \"engine_type\": \"V8\"},"
+        + "null]}";
+
+    VehicleHolder actual = GsonSingleton.getGson().fromJson(json, VehicleHolder.class);
+    assertEquals(actual.size, 3);
+    assertEquals(actual.vehicles.size(), 3);
+    assertEquals(actual.vehicles.get(0), createCar("Car"));
+    assertEquals(actual.vehicles.get(1), createTruck("truck"));
+    assertNull(actual.vehicles.get(2));
+  }
+
   @Test
   public void testVehiclesNullList() {
     VehicleHolder expected = new VehicleHolder(null);
@@ -74,6 +74,7 @@ public class DynamicModelSerializationTest {
     T newModel = deserialize(jsonString, clazz);
     display("de-serialized " + model.getClass().getSimpleName() + ": " + newModel.toString());
     assertEquals(newModel, model);
+    assertEquals(newModel.hashCode(), model.hashCode());
   }
 
   private ModelAPFoo createModelAPFoo() {
@@ -21,6 +21,7 @@ import static org.testng.Assert.assertTrue;
 import org.testng.annotations.Test;
 
 import com.ibm.cloud.sdk.core.test.model.generated.AnimalCat;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
 
 /**
  * A few simple tests that exercise the DynamicModel methods.
@@ -64,10 +65,23 @@ public class DynamicModelTest {
     assertNotNull(cat2);
 
     assertEquals(cat1, cat2);
+    assertEquals(cat1.hashCode(), cat2.hashCode());
     log("cat1: " + cat1.toString());
     log("cat2: " + cat2.toString());
   }
 
+  @Test
+  public void testEqualsAfterRoundTrip() {
+    AnimalCat cat1 = createCat("brown", "prop", "value");
+    AnimalCat cat2 = GsonSingleton.getGson().fromJson(cat1.toString(), AnimalCat.class);
+
+    assertEquals(cat2, cat1);
+    assertEquals(cat2.hashCode(), cat1.hashCode());
+
+    cat2.put("prop", "other");
+    assertNotEquals(cat2, cat1);
+  }
+
   @Test
   public void testNotEquals1() {
     AnimalCat cat1 = createCat("brown", "prop1", "value");
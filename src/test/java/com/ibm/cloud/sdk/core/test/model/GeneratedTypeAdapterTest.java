@@ -0,0 +1,152 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.sdk.core.test.model;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.ibm.cloud.sdk.core.test.model.processor.Instance;
+import com.ibm.cloud.sdk.core.test.model.processor.InstanceSummary;
+import com.ibm.cloud.sdk.core.test.model.processor.Reference;
+import com.ibm.cloud.sdk.core.util.ByteArrayTypeAdapter;
+import com.ibm.cloud.sdk.core.util.DateTimeTypeAdapter;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * Tests the TypeAdapters generated by the ModelTypeAdapterProcessor for the models in the
+ * com.ibm.cloud.sdk.core.test.model.processor package (see the testCompile configuration in pom.xml),
+ * by comparing them with Gson's reflection-based adapter.
+ */
+public class GeneratedTypeAdapterTest {
+  private static final String INSTANCE_JSON = "{"
+      + "\"id\":\"instance-1\","
+      + "\"href\":\"https://example.com/instances/instance-1\","
+      + "\"instance_name\":\"my-instance\","
+      + "\"memory\":8192,"
+      + "\"running\":true,"
+      + "\"cpu_load\":0.75,"
+      + "\"created_at\":\"2024-05-06T12:34:56.789Z\","
+      + "\"tags\":[\"a\",\"b\"],"
+      + "\"metadata\":{\"owner\":\"me\",\"count\":3,\"nested\":{\"x\":[1,2]}},"
+      + "\"zone\":{\"id\":\"zone-1\"},"
+      + "\"volumes\":[{\"id\":\"volume-1\"},{\"id\":\"volume-2\",\"href\":\"https://example.com/volumes/volume-2\"}],"
+      + "\"primary_network_interface\":{\"address\":\"10.0.0.1\",\"port_speed\":1000},"
+      + "\"user_data\":\"aGVsbG8=\","
+      + "\"summary\":\"ignored\","
+      + "\"unknown\":{\"a\":[1,{\"b\":null}]}"
+      + "}";
+
+  // A Gson configured like GsonSingleton's, but without the generated ModelTypeAdapterFactories.
+  private final Gson reflectiveGson = new GsonBuilder()
+      .setObjectToNumberStrategy(ToNumberPolicy.LAZILY_PARSED_NUMBER)
+      .setNumberToNumberStrategy(ToNumberPolicy.LAZILY_PARSED_NUMBER)
+      .registerTypeAdapter(Date.class, new DateTimeTypeAdapter())
+      .registerTypeAdapter(byte[].class, new ByteArrayTypeAdapter())
+      .registerTypeAdapter(LazilyParsedNumber.class, GsonSingleton.LAZILY_PARSED_NUMBER_ADAPTER)
+      .disableHtmlEscaping()
+      .create();
+
+  @Test
+  public void testGeneratedAdaptersAreRegistered() {
+    Gson gson = GsonSingleton.getGson();
+    assertEquals(gson.getAdapter(Instance.class).getClass().getSimpleName(), "Instance_TypeAdapter");
+    assertEquals(gson.getAdapter(Instance.NetworkInterface.class).getClass().getSimpleName(),
+        "Instance_NetworkInterface_TypeAdapter");
+    assertEquals(gson.getAdapter(Reference.class).getClass().getSimpleName(), "Reference_TypeAdapter");
+
+    // InstanceSummary has a private field, so it is left to the reflection-based adapter.
+    assertFalse(gson.getAdapter(InstanceSummary.class).getClass().getSimpleName().endsWith("_TypeAdapter"));
+    InstanceSummary summary = gson.fromJson("{\"name\":\"summary\"}", InstanceSummary.class);
+    assertEquals(summary.name(), "summary");
+  }
+
+  @Test
+  public void testDeserialization() {
+    Instance instance = GsonSingleton.getGson().fromJson(INSTANCE_JSON, Instance.class);
+    assertEquals(instance.id(), "instance-1");
+    assertEquals(instance.href(), "https://example.com/instances/instance-1");
+    assertEquals(instance.name(), "my-instance");
+    assertEquals(instance.memory(), 8192L);
+    assertEquals(instance.running(), Boolean.TRUE);
+    assertEquals(instance.cpuLoad(), 0.75);
+    assertEquals(instance.createdAt().getTime(), 1714998896789L);
+    assertEquals(instance.tags(), Arrays.asList("a", "b"));
+    assertEquals(instance.metadata().get("owner"), "me");
+    assertEquals(((Number) instance.metadata().get("count")).intValue(), 3);
+    assertEquals(instance.zone().id(), "zone-1");
+    assertNull(instance.zone().href());
+    assertEquals(instance.volumes().size(), 2);
+    assertEquals(instance.volumes().get(1).href(), "https://example.com/volumes/volume-2");
+    assertEquals(instance.primaryNetworkInterface().address(), "10.0.0.1");
+    assertEquals(instance.primaryNetworkInterface().portSpeed(), 1000);
+    assertEquals(new String(instance.userData(), StandardCharsets.UTF_8), "hello");
+    assertNull(instance.summary());
+
+    assertEquals(instance, reflectiveGson.fromJson(INSTANCE_JSON, Instance.class));
+  }
+
+  @Test
+  public void testDeserializationOfNulls() {
+    String json = "{\"name\":null,\"memory\":null,\"zone\":null,\"primary_network_interface\":{\"port_speed\":null}}";
+    Instance instance = GsonSingleton.getGson().fromJson(json, Instance.class);
+
+    // A JSON null leaves a primitive field unchanged.
+    assertEquals(instance.memory(), -1L);
+    assertEquals(instance.primaryNetworkInterface().portSpeed(), 0);
+    assertNull(instance.name());
+    assertNull(instance.zone());
+    assertEquals(instance, reflectiveGson.fromJson(json, Instance.class));
+
+    assertNull(GsonSingleton.getGson().fromJson("null", Instance.class));
+  }
+
+  @Test
+  public void testSerialization() {
+    Instance instance = reflectiveGson.fromJson(INSTANCE_JSON, Instance.class);
+
+    String json = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(instance);
+    assertEquals(json, reflectiveGson.toJson(instance));
+    assertTrue(json.startsWith("{\"name\":\"my-instance\",\"memory\":8192,"));
+    assertTrue(json.endsWith(",\"id\":\"instance-1\",\"href\":\"https://example.com/instances/instance-1\"}"));
+    assertFalse(json.contains("summary"));
+
+    assertEquals(GsonSingleton.getGson().toJson(instance), reflectiveGson.newBuilder().setPrettyPrinting().create()
+        .toJson(instance));
+    assertEquals(GsonSingleton.getGsonWithSerializeNulls().toJson(new Instance()),
+        reflectiveGson.newBuilder().serializeNulls().create().toJson(new Instance()));
+  }
+
+  @Test
+  public void testSerializationOfSubclassValue() {
+    // A field's value is serialized according to its runtime type, as with the reflection-based adapter.
+    Instance instance = reflectiveGson.fromJson(INSTANCE_JSON, Instance.class);
+    Instance zone = reflectiveGson.fromJson("{\"id\":\"zone-2\",\"name\":\"zone\",\"memory\":1}", Instance.class);
+    instance.setZone(zone);
+
+    String json = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(instance);
+    assertEquals(json, reflectiveGson.toJson(instance));
+    assertTrue(json.contains("\"zone\":{\"name\":\"zone\",\"memory\":1,\"id\":\"zone-2\"}"));
+  }
+}
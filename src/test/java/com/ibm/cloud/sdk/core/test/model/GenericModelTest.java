@@ -13,12 +13,22 @@
 
 package com.ibm.cloud.sdk.core.test.model;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.testng.annotations.Test;
 
+import com.google.gson.internal.LazilyParsedNumber;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
 import com.ibm.cloud.sdk.core.test.model.generated.Foo;
 
 /**
@@ -51,4 +61,64 @@ public class GenericModelTest {
     Foo foo = createFoo("A", 38);
     assertNotEquals(foo.hashCode(), 0);
   }
+
+  public static class Holder extends GenericModel {
+    Foo foo;
+    List<Object> values;
+    byte[] data;
+    transient String ignored;
+  }
+
+  private Holder createHolder(Object value, String ignored) {
+    Holder holder = new Holder();
+    holder.foo = createFoo("X", 33);
+    holder.values = Arrays.asList("a", value, null);
+    holder.data = new byte[] {1, 2, 3};
+    holder.ignored = ignored;
+    return holder;
+  }
+
+  @Test
+  public void testStructuralEquals() {
+    // Equality is consistent with the JSON form: numbers are compared by value and transient fields are ignored.
+    Holder holder1 = createHolder(Long.valueOf(38), "one");
+    Holder holder2 = createHolder(new LazilyParsedNumber("38"), "two");
+    assertEquals(holder1.toString(), holder2.toString());
+    assertEquals(holder1, holder2);
+    assertEquals(holder1.hashCode(), holder2.hashCode());
+
+    Set<Holder> set = new HashSet<>();
+    set.add(holder1);
+    assertTrue(set.contains(holder2));
+
+    holder2.data[2] = 4;
+    assertNotEquals(holder1, holder2);
+
+    Holder holder3 = createHolder(Long.valueOf(38), null);
+    holder3.foo.setBar(34);
+    assertNotEquals(holder1, holder3);
+  }
+
+  @Test
+  public void testEqualsMapWithNullValues() {
+    // A model with a null field is equal to a Map holding a null value (or no value) for that property.
+    Foo foo = new Foo();
+    foo.setFoo("X");
+    Map<String, Object> map = new HashMap<>();
+    map.put("foo", "X");
+    map.put("bar", null);
+
+    Holder holder1 = createHolder(foo, null);
+    Holder holder2 = createHolder(map, null);
+    assertEquals(holder1, holder2);
+    assertEquals(holder2, holder1);
+    assertEquals(holder1.hashCode(), holder2.hashCode());
+
+    map.remove("bar");
+    assertEquals(holder1, holder2);
+    assertEquals(holder1.hashCode(), holder2.hashCode());
+
+    map.put("bar", 38);
+    assertNotEquals(holder1, holder2);
+  }
 }
@@ -0,0 +1,195 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.sdk.core.test.model.processor;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
+
+/**
+ * A virtual server instance, with fields of each kind of type that the generated TypeAdapters support.
+ */
+public class Instance extends Reference {
+
+  /**
+   * A network interface of an instance.
+   */
+  public static class NetworkInterface extends GenericModel {
+    @SerializedName("address")
+    protected String address;
+    @SerializedName("port_speed")
+    protected int portSpeed;
+
+    /**
+     * Gets the address.
+     *
+     * @return the address
+     */
+    public String address() {
+      return address;
+    }
+
+    /**
+     * Gets the portSpeed.
+     *
+     * @return the portSpeed
+     */
+    public int portSpeed() {
+      return portSpeed;
+    }
+  }
+
+  @SerializedName(value = "name", alternate = { "instance_name" })
+  protected String name;
+  @SerializedName("memory")
+  protected long memory = -1;
+  @SerializedName("running")
+  protected Boolean running;
+  @SerializedName("cpu_load")
+  protected Double cpuLoad;
+  @SerializedName("created_at")
+  protected Date createdAt;
+  @SerializedName("tags")
+  protected List<String> tags;
+  @SerializedName("metadata")
+  protected Map<String, Object> metadata;
+  @SerializedName("zone")
+  protected Reference zone;
+  @SerializedName("volumes")
+  protected List<Reference> volumes;
+  @SerializedName("primary_network_interface")
+  protected NetworkInterface primaryNetworkInterface;
+  @SerializedName("user_data")
+  protected byte[] userData;
+  protected transient String summary;
+
+  /**
+   * Gets the name.
+   *
+   * @return the name
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Gets the memory.
+   *
+   * @return the memory
+   */
+  public long memory() {
+    return memory;
+  }
+
+  /**
+   * Gets the running.
+   *
+   * @return the running
+   */
+  public Boolean running() {
+    return running;
+  }
+
+  /**
+   * Gets the cpuLoad.
+   *
+   * @return the cpuLoad
+   */
+  public Double cpuLoad() {
+    return cpuLoad;
+  }
+
+  /**
+   * Gets the createdAt.
+   *
+   * @return the createdAt
+   */
+  public Date createdAt() {
+    return createdAt;
+  }
+
+  /**
+   * Gets the tags.
+   *
+   * @return the tags
+   */
+  public List<String> tags() {
+    return tags;
+  }
+
+  /**
+   * Gets the metadata.
+   *
+   * @return the metadata
+   */
+  public Map<String, Object> metadata() {
+    return metadata;
+  }
+
+  /**
+   * Gets the zone.
+   *
+   * @return the zone
+   */
+  public Reference zone() {
+    return zone;
+  }
+
+  /**
+   * Sets the zone.
+   *
+   * @param zone the new zone
+   */
+  public void setZone(Reference zone) {
+    this.zone = zone;
+  }
+
+  /**
+   * Gets the volumes.
+   *
+   * @return the volumes
+   */
+  public List<Reference> volumes() {
+    return volumes;
+  }
+
+  /**
+   * Gets the primaryNetworkInterface.
+   *
+   * @return the primaryNetworkInterface
+   */
+  public NetworkInterface primaryNetworkInterface() {
+    return primaryNetworkInterface;
+  }
+
+  /**
+   * Gets the userData.
+   *
+   * @return the userData
+   */
+  public byte[] userData() {
+    return userData;
+  }
+
+  /**
+   * Gets the summary.
+   *
+   * @return the summary
+   */
+  public String summary() {
+    return summary;
+  }
+}
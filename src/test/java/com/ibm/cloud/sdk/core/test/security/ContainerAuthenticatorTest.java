@@ -21,6 +21,10 @@ import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -37,7 +41,9 @@ import com.ibm.cloud.sdk.core.http.HttpHeaders;
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.AuthenticatorBase;
 import com.ibm.cloud.sdk.core.security.ContainerAuthenticator;
+import com.ibm.cloud.sdk.core.security.FileTokenStore;
 import com.ibm.cloud.sdk.core.security.IamToken;
+import com.ibm.cloud.sdk.core.security.TokenRequestBasedAuthenticator;
 import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
 import com.ibm.cloud.sdk.core.test.BaseServiceUnitTest;
 import com.ibm.cloud.sdk.core.util.Clock;
@@ -229,6 +235,42 @@ public class ContainerAuthenticatorTest extends BaseServiceUnitTest {
   // Tests involving interactions with a mocked token service.
   //
 
+  @Test
+  public void testFileTokenStoreRequiresSecret() throws Throwable {
+    clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(0L);
+    File dir = Files.createTempDirectory("token-store").toFile();
+    try {
+      // The token cache key contains no credential, so the token is not stored without a secret.
+      TokenRequestBasedAuthenticator.setTokenStore(new FileTokenStore(dir));
+      server.enqueue(jsonResponse(tokenData1));
+      ContainerAuthenticator authenticator = new ContainerAuthenticator.Builder()
+          .crTokenFilename(mockCRTokenFile)
+          .iamProfileName(mockIamProfileName)
+          .url(url)
+          .build();
+      assertEquals(authenticator.getToken(), tokenData1.getAccessToken());
+      assertEquals(dir.listFiles((d, name) -> name.endsWith(".token")).length, 0);
+
+      // With a secret, the token is stored.
+      TokenRequestBasedAuthenticator.setTokenStore(new FileTokenStore(dir,
+          "secret".getBytes(StandardCharsets.UTF_8), FileTokenStore.DEFAULT_LOCK_TIMEOUT_MILLIS));
+      server.enqueue(jsonResponse(tokenData1));
+      authenticator = new ContainerAuthenticator.Builder()
+          .crTokenFilename(mockCRTokenFile)
+          .iamProfileName(mockIamProfileName)
+          .url(url)
+          .build();
+      assertEquals(authenticator.getToken(), tokenData1.getAccessToken());
+      assertEquals(dir.listFiles((d, name) -> name.endsWith(".token")).length, 1);
+    } finally {
+      TokenRequestBasedAuthenticator.setTokenStore(null);
+      for (File f : dir.listFiles()) {
+        f.delete();
+      }
+      dir.delete();
+    }
+  }
+
   @Test
   public void testAuthenticateNewAndStoredToken() throws Throwable {
     // Mock current time to ensure that we're way before the first token's expiration time.
@@ -642,4 +684,58 @@ public class ContainerAuthenticatorTest extends BaseServiceUnitTest {
       fail("Expected RuntimeException, not " + t.getClass().getSimpleName());
     }
   }
+
+  // A ContainerAuthenticator that counts the number of times it reads the CR token file.
+  private static class CountingContainerAuthenticator extends ContainerAuthenticator {
+    private int reads;
+
+    CountingContainerAuthenticator(ContainerAuthenticator.Builder builder) {
+      super(builder);
+    }
+
+    @Override
+    public String retrieveCRToken() {
+      return super.retrieveCRToken();
+    }
+
+    @Override
+    protected String readFile(String filename) throws IOException {
+      reads++;
+      return super.readFile(filename);
+    }
+  }
+
+  @Test
+  public void testCachedCRToken() throws Throwable {
+    File crTokenFile = File.createTempFile("cr-token", ".txt");
+    try {
+      Files.write(crTokenFile.toPath(), "cr-token-1".getBytes(StandardCharsets.UTF_8));
+      CountingContainerAuthenticator authenticator = new CountingContainerAuthenticator(
+          new ContainerAuthenticator.Builder()
+              .crTokenFilename(crTokenFile.getPath())
+              .iamProfileName(mockIamProfileName)
+              .url(url));
+
+      // The file should be read only once while it is unchanged.
+      assertEquals(authenticator.retrieveCRToken(), "cr-token-1");
+      assertEquals(authenticator.retrieveCRToken(), "cr-token-1");
+      assertEquals(authenticator.reads, 1);
+
+      // A rotated CR token should be picked up by the next call.
+      Files.write(crTokenFile.toPath(), "cr-token-two".getBytes(StandardCharsets.UTF_8));
+      assertEquals(authenticator.retrieveCRToken(), "cr-token-two");
+      assertEquals(authenticator.reads, 2);
+
+      // A deleted CR token file should result in an error rather than the cached value.
+      assertTrue(crTokenFile.delete());
+      try {
+        authenticator.retrieveCRToken();
+        fail("Expected retrieveCRToken() to result in exception!");
+      } catch (RuntimeException excp) {
+        assertTrue(excp.getCause() instanceof NoSuchFileException);
+      }
+    } finally {
+      crTokenFile.delete();
+    }
+  }
 }
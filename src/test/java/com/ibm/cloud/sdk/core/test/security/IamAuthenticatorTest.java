@@ -18,13 +18,20 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +45,7 @@ import org.testng.annotations.Test;
 import com.ibm.cloud.sdk.core.http.HttpHeaders;
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.AuthenticatorBase;
+import com.ibm.cloud.sdk.core.security.FileTokenStore;
 import com.ibm.cloud.sdk.core.security.IamAuthenticator;
 import com.ibm.cloud.sdk.core.security.IamToken;
 import com.ibm.cloud.sdk.core.security.TokenRequestBasedAuthenticator;
@@ -293,6 +301,7 @@ public class IamAuthenticatorTest extends BaseServiceUnitTest {
     // Authenticator should request new, valid token.
     authenticator.authenticate(requestBuilder);
     verifyAuthHeader(requestBuilder, "Bearer " + tokenData.getAccessToken());
+    String firstHeader = requestBuilder.build().header(HttpHeaders.AUTHORIZATION);
 
     // Now make sure the token server request did not contain an Authorization header,
     // since we didn't set clientId/clientSecret.
@@ -310,6 +319,9 @@ public class IamAuthenticatorTest extends BaseServiceUnitTest {
     authenticator.authenticate(requestBuilder);
     verifyAuthHeader(requestBuilder, "Bearer " + tokenData.getAccessToken());
 
+    // The Authorization header value should be constructed only once for each token.
+    assertSame(requestBuilder.build().header(HttpHeaders.AUTHORIZATION), firstHeader);
+
     // Verify that the authenticator is still using the same client instance that we set before.
     assertEquals(authenticator.getClient(), client);
   }
@@ -413,6 +425,413 @@ public class IamAuthenticatorTest extends BaseServiceUnitTest {
     verifyAuthHeader(requestBuilder, "Bearer " + refreshedTokenData.getAccessToken());
   }
 
+  @Test
+  public void testSingleFlightTokenFetch() throws Throwable {
+    // Other threads do not see the mocked clock, so use a token that is valid in real time.
+    Map<String, Object> token = new HashMap<>();
+    token.put("access_token", "concurrent-token");
+    token.put("token_type", "Bearer");
+    token.put("expires_in", 3600);
+    token.put("expiration", System.currentTimeMillis() / 1000 + 3600);
+    server.enqueue(jsonResponse(token).setBodyDelay(1, TimeUnit.SECONDS));
+
+    final IamAuthenticator authenticator = new IamAuthenticator.Builder()
+        .apikey(API_KEY)
+        .url(url)
+        .build();
+
+    // Many threads need a token at the same time, but only one of them should fetch it.
+    final int numThreads = 8;
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(numThreads);
+    final String[] results = new String[numThreads];
+    for (int i = 0; i < numThreads; i++) {
+      final int index = i;
+      new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            results[index] = authenticator.getToken();
+          } catch (Throwable t) {
+            results[index] = t.toString();
+          } finally {
+            done.countDown();
+          }
+        }
+      }).start();
+    }
+    start.countDown();
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+
+    for (String result : results) {
+      assertEquals(result, "concurrent-token");
+    }
+    assertEquals(server.getRequestCount(), 1);
+  }
+
+  @Test
+  public void testSharedTokenCache() throws Throwable {
+    TokenRequestBasedAuthenticator.setSharedTokenCacheEnabled(true);
+    try {
+      server.enqueue(jsonResponse(tokenData));
+      server.enqueue(jsonResponse(refreshedTokenData));
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(0L);
+
+      IamAuthenticator authenticator1 = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      IamAuthenticator authenticator2 = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      IamAuthenticator otherAuthenticator = new IamAuthenticator.Builder()
+          .apikey("other-apikey")
+          .url(url)
+          .build();
+
+      // Authenticators with the same credentials share a single token.
+      assertEquals(authenticator1.getToken(), tokenData.getAccessToken());
+      assertEquals(authenticator2.getToken(), tokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 1);
+
+      // An authenticator with different credentials obtains its own token.
+      assertEquals(otherAuthenticator.getToken(), refreshedTokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 2);
+
+      // Changing an authenticator's credentials should cause it to use a different token.
+      server.enqueue(jsonResponse(refreshedTokenData));
+      authenticator2.setScope("other-scope");
+      assertEquals(authenticator2.getToken(), refreshedTokenData.getAccessToken());
+      assertEquals(authenticator1.getToken(), tokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 3);
+
+      // Authenticators should stop using the tokens that were removed from the cache.
+      server.enqueue(jsonResponse(refreshedTokenData));
+      TokenRequestBasedAuthenticator.clearSharedTokenCache();
+      assertEquals(authenticator1.getToken(), refreshedTokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 4);
+    } finally {
+      TokenRequestBasedAuthenticator.setSharedTokenCacheEnabled(false);
+      TokenRequestBasedAuthenticator.clearSharedTokenCache();
+    }
+  }
+
+  @Test
+  public void testSharedTokenProactiveRefresh() throws Throwable {
+    TokenRequestBasedAuthenticator.setSharedTokenCacheEnabled(true);
+    TokenRequestBasedAuthenticator.setProactiveTokenRefreshEnabled(true);
+    try {
+      server.enqueue(jsonResponse(tokenData));
+      server.enqueue(jsonResponse(refreshedTokenData));
+
+      // Set the mock time to be 1 second before the first token's refresh time.
+      long refreshTime = tokenData.getRefreshTimeInSeconds();
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(refreshTime - 1L);
+
+      IamAuthenticator authenticator1 = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      IamAuthenticator authenticator2 = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+
+      // The first authenticator obtains the token and schedules its refresh; the second shares it.
+      assertEquals(authenticator1.getToken(), tokenData.getAccessToken());
+      assertEquals(authenticator2.getToken(), tokenData.getAccessToken());
+
+      // The refresh scheduled by the first authenticator is bound to the shared state, so the second
+      // authenticator sees the refreshed token, and the token is refreshed only once.
+      waitForToken(authenticator2, refreshedTokenData.getAccessToken());
+      assertEquals(authenticator1.getToken(), refreshedTokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 2);
+    } finally {
+      TokenRequestBasedAuthenticator.setProactiveTokenRefreshEnabled(false);
+      TokenRequestBasedAuthenticator.setSharedTokenCacheEnabled(false);
+      TokenRequestBasedAuthenticator.clearSharedTokenCache();
+    }
+  }
+
+  @Test
+  public void testFileTokenStore() throws Throwable {
+    File dir = Files.createTempDirectory("token-store").toFile();
+    TokenRequestBasedAuthenticator.setTokenStore(new FileTokenStore(dir));
+    try {
+      server.enqueue(jsonResponse(tokenData));
+      server.enqueue(jsonResponse(refreshedTokenData));
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(0L);
+
+      IamAuthenticator authenticator = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      assertEquals(authenticator.getToken(), tokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 1);
+
+      // The token is stored in an encrypted file.
+      File[] tokenFiles = dir.listFiles((d, name) -> name.endsWith(".token"));
+      assertEquals(tokenFiles.length, 1);
+      String contents = new String(Files.readAllBytes(tokenFiles[0].toPath()), StandardCharsets.ISO_8859_1);
+      assertFalse(contents.contains(tokenData.getAccessToken()));
+
+      // A new authenticator (as in a new process) with the same credentials reuses the stored token.
+      IamAuthenticator authenticator2 = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      assertEquals(authenticator2.getToken(), tokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 1);
+
+      // A store that uses a different secret cannot decrypt the stored token, so a new token is fetched.
+      byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+      TokenRequestBasedAuthenticator.setTokenStore(
+          new FileTokenStore(dir, secret, FileTokenStore.DEFAULT_LOCK_TIMEOUT_MILLIS));
+      IamAuthenticator authenticator3 = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      assertEquals(authenticator3.getToken(), refreshedTokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 2);
+    } finally {
+      TokenRequestBasedAuthenticator.setTokenStore(null);
+      for (File f : dir.listFiles()) {
+        f.delete();
+      }
+      dir.delete();
+    }
+  }
+
+  @Test
+  public void testFileTokenStoreBackgroundRefresh() throws Throwable {
+    File dir = Files.createTempDirectory("token-store").toFile();
+    TokenRequestBasedAuthenticator.setTokenStore(new FileTokenStore(dir));
+    try {
+      // The background refresh runs on another thread, which does not see the mocked clock,
+      // so use tokens that are valid in real time (the stored token is then reusable on that thread).
+      long expiration = System.currentTimeMillis() / 1000 + 3600;
+      Map<String, Object> token1 = new HashMap<>();
+      token1.put("access_token", "token-1");
+      token1.put("expires_in", 3600);
+      token1.put("expiration", expiration);
+      // The new token expires an hour later, so it is not due for a refresh at the mocked time.
+      Map<String, Object> token2 = new HashMap<>(token1);
+      token2.put("access_token", "token-2");
+      token2.put("expiration", expiration + 3600);
+
+      server.enqueue(jsonResponse(token1));
+      server.enqueue(jsonResponse(token2));
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(0L);
+
+      IamAuthenticator authenticator = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      assertEquals(authenticator.getToken(), "token-1");
+      assertEquals(server.getRequestCount(), 1);
+
+      // Move into the refresh window; the background refresh must fetch a new token
+      // rather than reuse the stored one.
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(expiration - 100);
+      assertEquals(authenticator.getToken(), "token-1");
+      waitForToken(authenticator, "token-2");
+      assertEquals(server.getRequestCount(), 2);
+    } finally {
+      TokenRequestBasedAuthenticator.setTokenStore(null);
+      for (File f : dir.listFiles()) {
+        f.delete();
+      }
+      dir.delete();
+    }
+  }
+
+  @Test
+  public void testBackgroundRefreshFailureKeepsValidToken() throws Throwable {
+    // Run token fetches on the calling thread, so that the background refresh (and its backoff)
+    // sees the mocked clock.
+    TokenRequestBasedAuthenticator.setTokenFetchExecutor(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+    try {
+      // The refresh time of this token is 9280 (80% of its time to live).
+      long expiration = 10000;
+      Map<String, Object> token1 = new HashMap<>();
+      token1.put("access_token", "token-1");
+      token1.put("expires_in", 3600);
+      token1.put("expiration", expiration);
+      // The new token expires an hour later, so it does not need to be refreshed during the test.
+      Map<String, Object> token2 = new HashMap<>(token1);
+      token2.put("access_token", "token-2");
+      token2.put("expiration", expiration + 3600);
+
+      server.enqueue(jsonResponse(token1));
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(0L);
+
+      IamAuthenticator authenticator = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      assertEquals(authenticator.getToken(), "token-1");
+
+      // Move into the refresh window; the background refresh fails, but the current token is still returned.
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(expiration - 100);
+      server.enqueue(errorResponse(500, "{\"errorMessage\": \"unavailable\"}"));
+      assertEquals(authenticator.getToken(), "token-1");
+      assertEquals(server.getRequestCount(), 2);
+
+      // The refresh is not retried until the backoff delay (1 second) has elapsed.
+      assertEquals(authenticator.getToken(), "token-1");
+      assertEquals(server.getRequestCount(), 2);
+
+      // After the backoff delay, the refresh is retried and the new token is used.
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(expiration - 99);
+      server.enqueue(jsonResponse(token2));
+      assertEquals(authenticator.getToken(), "token-1");
+      assertEquals(server.getRequestCount(), 3);
+      assertEquals(authenticator.getToken(), "token-2");
+      assertEquals(authenticator.getToken(), "token-2");
+      assertEquals(server.getRequestCount(), 3);
+    } finally {
+      TokenRequestBasedAuthenticator.setTokenFetchExecutor(null);
+    }
+  }
+
+  private void waitForRequests(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (server.getRequestCount() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertEquals(server.getRequestCount(), count);
+  }
+
+  private void waitForToken(IamAuthenticator authenticator, String expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!expected.equals(authenticator.getToken()) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertEquals(authenticator.getToken(), expected);
+  }
+
+  @Test
+  public void testProactiveTokenRefresh() throws Throwable {
+    TokenRequestBasedAuthenticator.setProactiveTokenRefreshEnabled(true);
+    try {
+      server.enqueue(jsonResponse(tokenData));
+      server.enqueue(jsonResponse(refreshedTokenData));
+
+      // Set the mock time to be 1 second before the first token's refresh time.
+      long refreshTime = tokenData.getRefreshTimeInSeconds();
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(refreshTime - 1L);
+
+      IamAuthenticator authenticator = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+
+      Request.Builder requestBuilder = new Request.Builder().url("https://test.com");
+      authenticator.authenticate(requestBuilder);
+      verifyAuthHeader(requestBuilder, "Bearer " + tokenData.getAccessToken());
+
+      // The token should be refreshed in the background without any further calls to the authenticator
+      // (getToken() does not trigger a refresh, since the token is not yet due for one at the mocked time).
+      waitForToken(authenticator, refreshedTokenData.getAccessToken());
+
+      requestBuilder = new Request.Builder().url("https://test.com");
+      authenticator.authenticate(requestBuilder);
+      verifyAuthHeader(requestBuilder, "Bearer " + refreshedTokenData.getAccessToken());
+      assertEquals(server.getRequestCount(), 2);
+    } finally {
+      TokenRequestBasedAuthenticator.setProactiveTokenRefreshEnabled(false);
+    }
+  }
+
+  @Test
+  public void testTokenFetchExecutor() throws Throwable {
+    final AtomicInteger executions = new AtomicInteger();
+    TokenRequestBasedAuthenticator.setTokenFetchExecutor(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        executions.incrementAndGet();
+        new Thread(command).start();
+      }
+    });
+    try {
+      server.enqueue(jsonResponse(tokenData));
+      clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(0L);
+
+      IamAuthenticator authenticator = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+
+      Request.Builder requestBuilder = new Request.Builder().url("https://test.com");
+      authenticator.authenticate(requestBuilder);
+      verifyAuthHeader(requestBuilder, "Bearer " + tokenData.getAccessToken());
+      assertEquals(executions.get(), 1);
+    } finally {
+      TokenRequestBasedAuthenticator.setTokenFetchExecutor(null);
+    }
+
+    // The default executor uses named daemon threads.
+    final Thread[] fetchThread = new Thread[1];
+    final CountDownLatch done = new CountDownLatch(1);
+    TokenRequestBasedAuthenticator.getTokenFetchExecutor().execute(new Runnable() {
+      @Override
+      public void run() {
+        fetchThread[0] = Thread.currentThread();
+        done.countDown();
+      }
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(fetchThread[0].isDaemon());
+    assertTrue(fetchThread[0].getName().startsWith("ibm-cloud-sdk-token-fetch-"));
+  }
+
+  @Test(timeOut = 10000)
+  public void testTokenFetchExecutorBusy() throws Throwable {
+    // Occupy every thread of the default executor.
+    TokenRequestBasedAuthenticator.setTokenFetchExecutor(null);
+    final CountDownLatch started = new CountDownLatch(TokenRequestBasedAuthenticator.DEFAULT_TOKEN_FETCH_THREADS);
+    final CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < TokenRequestBasedAuthenticator.DEFAULT_TOKEN_FETCH_THREADS; i++) {
+      TokenRequestBasedAuthenticator.getTokenFetchExecutor().execute(new Runnable() {
+        @Override
+        public void run() {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      });
+    }
+    try {
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      // A synchronous fetch does not wait for a free thread; it is performed on the calling thread.
+      // (TestNG runs a test with a timeout on another thread, which does not see the mocked clock,
+      // so use a token that is valid in real time.)
+      Map<String, Object> token = new HashMap<>();
+      token.put("access_token", "token-1");
+      token.put("expires_in", 3600);
+      token.put("expiration", System.currentTimeMillis() / 1000 + 3600);
+      server.enqueue(jsonResponse(token));
+      IamAuthenticator authenticator = new IamAuthenticator.Builder()
+          .apikey(API_KEY)
+          .url(url)
+          .build();
+      assertEquals(authenticator.getToken(), "token-1");
+    } finally {
+      release.countDown();
+    }
+  }
+
   @Test
   public void testUserHeaders() throws Throwable {
     server.enqueue(jsonResponse(tokenData));
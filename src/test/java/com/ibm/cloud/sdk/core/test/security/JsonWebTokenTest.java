@@ -12,11 +12,16 @@
  */
 package com.ibm.cloud.sdk.core.test.security;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import org.testng.annotations.Test;
 
 import com.ibm.cloud.sdk.core.security.JsonWebToken;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 public class JsonWebTokenTest {
 
@@ -36,4 +41,29 @@ public class JsonWebTokenTest {
     assertNotNull(jwt.getPayload().getUserId());
     assertNotNull(jwt.getPayload().getUsername());
   }
+
+  @Test
+  public void testDecodeTimeClaims() {
+    JsonWebToken.TimeClaims claims = JsonWebToken.decodeTimeClaims(encodedToken);
+    JsonWebToken jwt = new JsonWebToken(encodedToken);
+    assertEquals(claims.getIssuedAt(), jwt.getPayload().getIssuedAt());
+    assertEquals(claims.getExpiresAt(), jwt.getPayload().getExpiresAt());
+
+    // {"nested":{"exp":1},"iat":null,"list":[1,"x"],"exp":2000}
+    String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        "{\"nested\":{\"exp\":1},\"iat\":null,\"list\":[1,\"x\"],\"exp\":2000}".getBytes(StandardCharsets.UTF_8));
+    claims = JsonWebToken.decodeTimeClaims("e30." + payload + ".c2ln");
+    assertNull(claims.getIssuedAt());
+    assertEquals(claims.getExpiresAt(), Long.valueOf(2000));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testDecodeTimeClaimsNoPayload() {
+    JsonWebToken.decodeTimeClaims("not-a-jwt");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testDecodeTimeClaimsInvalidPayload() {
+    JsonWebToken.decodeTimeClaims("e30.WzEsMl0.c2ln");
+  }
 }
@@ -330,6 +330,39 @@ public class VpcInstanceAuthenticatorTest extends BaseServiceUnitTest {
     assertEquals(s.getMessage(), "Your create_iam_token request was bad.");
   }
 
+  @Test
+  public void testRequestTokenReusesInstanceIdentityToken() throws Throwable {
+    clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(1000L);
+
+    VpcInstanceAuthenticator authenticator = new VpcInstanceAuthenticator.Builder()
+        .iamProfileId(mockIamProfileId)
+        .url(url)
+        .build();
+
+    // The second IAM token exchange should re-use the instance identity token retrieved by the first.
+    server.enqueue(jsonResponse(vpcInstanceIdentityTokenResponse));
+    server.enqueue(jsonResponse(vpcIamAccessTokenResponse1));
+    server.enqueue(jsonResponse(vpcIamAccessTokenResponse2));
+    assertEquals(authenticator.requestToken().getAccessToken(), vpcIamAccessTokenResponse1.getAccessToken());
+    assertEquals(authenticator.requestToken().getAccessToken(), vpcIamAccessTokenResponse2.getAccessToken());
+    assertEquals(server.getRequestCount(), 3);
+
+    // A failed exchange should cause a new instance identity token to be retrieved next time.
+    server.enqueue(errorResponse(400, mockErrorResponseJson2));
+    assertNotNull(authenticator.requestToken().getException());
+    server.enqueue(jsonResponse(vpcInstanceIdentityTokenResponse));
+    server.enqueue(jsonResponse(vpcIamAccessTokenResponse1));
+    assertEquals(authenticator.requestToken().getAccessToken(), vpcIamAccessTokenResponse1.getAccessToken());
+    assertEquals(server.getRequestCount(), 6);
+
+    // Once 80% of its lifetime has elapsed, the instance identity token should no longer be re-used.
+    clockMock.when(() -> Clock.getCurrentTimeInSeconds()).thenReturn(1000L + 240);
+    server.enqueue(jsonResponse(vpcInstanceIdentityTokenResponse));
+    server.enqueue(jsonResponse(vpcIamAccessTokenResponse2));
+    assertEquals(authenticator.requestToken().getAccessToken(), vpcIamAccessTokenResponse2.getAccessToken());
+    assertEquals(server.getRequestCount(), 8);
+  }
+
   //
   // Tests involving the getToken() method.
   //
@@ -1,5 +1,5 @@
 /**
- * (C) Copyright IBM Corp. 2015, 2024.
+ * (C) Copyright IBM Corp. 2015, 2026.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -41,6 +41,7 @@ import org.testng.annotations.Test;
 
 import static com.ibm.cloud.sdk.core.http.HttpHeaders.CONTENT_TYPE;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 public class ErrorResponseTest extends BaseServiceUnitTest {
@@ -389,4 +390,47 @@ public class ErrorResponseTest extends BaseServiceUnitTest {
       assertEquals(ex.getDebuggingInfo().get("correlation_id"), correlationId);
     }
   }
+
+  @Test
+  public void testResponseBodyIsBounded() {
+    long savedMax = ServiceResponseException.getMaxResponseBodySize();
+    ServiceResponseException.setMaxResponseBodySize(16);
+    try {
+      String responseBody = "{\"error\": \"The request failed because the moon is full.\"}";
+      server.enqueue(new MockResponse()
+          .setResponseCode(404)
+          .addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+          .setBody(responseBody));
+
+      try {
+        service.testMethod().execute();
+      } catch (Exception e) {
+        assertTrue(e instanceof NotFoundException);
+        NotFoundException ex = (NotFoundException) e;
+        // The truncated body is no longer valid JSON, so it is reported as-is.
+        verifyException(ex, 404, responseBody.substring(0, 16), responseBody.substring(0, 16));
+        assertNull(ex.getDebuggingInfo());
+      }
+    } finally {
+      ServiceResponseException.setMaxResponseBodySize(savedMax);
+    }
+  }
+
+  @Test
+  public void testDefaultMessage() {
+    String responseBody = "{\"code\": 404}";
+    server.enqueue(new MockResponse()
+        .setResponseCode(404)
+        .addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody(responseBody));
+
+    try {
+      service.testMethod().execute();
+    } catch (Exception e) {
+      assertTrue(e instanceof NotFoundException);
+      NotFoundException ex = (NotFoundException) e;
+      verifyException(ex, 404, "Not found", responseBody);
+      assertEquals(((Number) ex.getDebuggingInfo().get("code")).intValue(), 404);
+    }
+  }
 }
@@ -0,0 +1,163 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.service;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.sdk.core.http.HttpHeaders;
+import com.ibm.cloud.sdk.core.http.HttpMediaType;
+import com.ibm.cloud.sdk.core.http.NdJsonReader;
+import com.ibm.cloud.sdk.core.http.NdJsonRequestBody;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.security.Authenticator;
+import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
+import com.ibm.cloud.sdk.core.service.BaseService;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
+import com.ibm.cloud.sdk.core.test.BaseServiceUnitTest;
+import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+
+import okhttp3.HttpUrl;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * Unit tests for newline-delimited JSON request and response bodies.
+ */
+public class NdJsonTest extends BaseServiceUnitTest {
+
+  public static class Record extends GenericModel {
+    String name;
+    Long count;
+
+    Record() {
+    }
+
+    Record(String name, Long count) {
+      this.name = name;
+      this.count = count;
+    }
+  }
+
+  public class TestService extends BaseService {
+
+    private static final String SERVICE_NAME = "test";
+
+    TestService(Authenticator auth) {
+      super(SERVICE_NAME, auth);
+    }
+
+    ServiceCall<NdJsonReader<Record>> exportRecords() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getServiceUrl() + "/v1/export"));
+      return createServiceCall(builder.build(), ResponseConverterUtils.<Record>getNdJson(Record.class));
+    }
+
+    ServiceCall<Void> importRecords(List<Record> records) {
+      RequestBuilder builder = RequestBuilder.post(HttpUrl.parse(getServiceUrl() + "/v1/import"));
+      builder.bodyNdJson(records, HttpMediaType.APPLICATION_NDJSON);
+      return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    }
+  }
+
+  private TestService service;
+
+  @Override
+  @BeforeMethod
+  public void setUp() throws Exception {
+    super.setUp();
+    service = new TestService(new NoAuthAuthenticator());
+    service.setServiceUrl(getMockWebServerUrl());
+  }
+
+  private static MockResponse ndJsonResponse(String body) {
+    return new MockResponse()
+        .addHeader(HttpHeaders.CONTENT_TYPE, HttpMediaType.APPLICATION_NDJSON)
+        .setBody(body);
+  }
+
+  @Test
+  public void testReadIterator() {
+    server.enqueue(ndJsonResponse("{\"name\":\"a\",\"count\":1}\r\n\n{\"name\":\"b\",\"count\":2}\n{\"name\":\"c\"}"));
+
+    NdJsonReader<Record> reader = service.exportRecords().execute().getResult();
+    List<Record> records = new ArrayList<>();
+    while (reader.hasNext()) {
+      records.add(reader.next());
+    }
+    assertEquals(records.size(), 3);
+    assertEquals(records.get(0).name, "a");
+    assertEquals(records.get(1).count, Long.valueOf(2));
+    assertEquals(records.get(2).name, "c");
+    assertNull(records.get(2).count);
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void testReadFlowable() {
+    server.enqueue(ndJsonResponse("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n"));
+
+    List<Record> records = service.exportRecords().execute().getResult().toFlowable().toList().blockingGet();
+    assertEquals(records.size(), 3);
+    assertEquals(records.get(1).name, "b");
+  }
+
+  @Test
+  public void testReadNullRecord() {
+    NdJsonReader<Record> reader = new NdJsonReader<>(new Buffer().writeUtf8("null\n{\"name\":\"a\"}\n"), Record.class);
+    assertTrue(reader.hasNext());
+    assertNull(reader.next());
+    assertEquals(reader.next().name, "a");
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void testWrite() throws Exception {
+    server.enqueue(new MockResponse());
+
+    List<Record> records = Arrays.asList(new Record("a", 1L), new Record("b", null));
+    service.importRecords(records).execute();
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getHeader(HttpHeaders.CONTENT_TYPE), HttpMediaType.APPLICATION_NDJSON);
+    assertEquals(request.getBody().readUtf8(), "{\"name\":\"a\",\"count\":1}\n{\"name\":\"b\"}\n");
+  }
+
+  @Test
+  public void testWriteIterable() throws Exception {
+    RequestBody body = NdJsonRequestBody.create(Arrays.asList(new Record("a", 1L)));
+    assertFalse(body.isOneShot());
+
+    // A body created from an Iterable can be written repeatedly.
+    for (int i = 0; i < 2; i++) {
+      Buffer buffer = new Buffer();
+      body.writeTo(buffer);
+      assertEquals(buffer.readUtf8(), "{\"name\":\"a\",\"count\":1}\n");
+    }
+
+    RequestBody oneShot = NdJsonRequestBody.create(null, Arrays.asList(new Record("a", 1L)).iterator());
+    assertTrue(oneShot.isOneShot());
+  }
+}
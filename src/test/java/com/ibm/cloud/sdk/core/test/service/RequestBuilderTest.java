@@ -19,16 +19,19 @@ import static org.testng.Assert.assertNotNull;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import com.google.gson.JsonObject;
 import com.ibm.cloud.sdk.core.http.HttpMediaType;
+import com.ibm.cloud.sdk.core.http.JsonRequestBody;
 import com.ibm.cloud.sdk.core.http.RequestBuilder;
 import com.ibm.cloud.sdk.core.test.TestUtils;
 import com.ibm.cloud.sdk.core.test.model.generated.Car;
@@ -571,4 +574,48 @@ public class RequestBuilderTest {
     assertEquals(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(emptyObj), buffer.readUtf8());
     assertEquals(HttpMediaType.JSON, requestedBody.contentType());
   }
+
+  /**
+   * Test that a model request body is serialized once, sent with a content length, and can be written
+   * more than once.
+   * @throws IOException
+   */
+  @Test
+  public void testBodyContentSized() throws IOException {
+    Map<String, Object> map = new HashMap<>();
+    map.put("make", "Ford");
+    final Request request = RequestBuilder.post(HttpUrl.parse(urlWithQuery))
+        .bodyContent("application/json; charset=utf-16", map, null, (InputStream) null).build();
+    final RequestBody requestedBody = request.body();
+    assertEquals(MediaType.parse("application/json; charset=utf-16"), requestedBody.contentType());
+
+    String expected = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(map);
+    assertEquals(expected.getBytes(StandardCharsets.UTF_16).length, requestedBody.contentLength());
+    for (int i = 0; i < 2; i++) {
+      final Buffer buffer = new Buffer();
+      requestedBody.writeTo(buffer);
+      assertEquals(expected, buffer.readString(StandardCharsets.UTF_16));
+    }
+  }
+
+  /**
+   * Test that a model request body larger than the streaming threshold is streamed (with an unknown length)
+   * and can be written more than once.
+   * @throws IOException
+   */
+  @Test
+  public void testBodyContentStreaming() throws IOException {
+    Map<String, Object> map = new HashMap<>();
+    map.put("data", StringUtils.repeat('x', (int) JsonRequestBody.STREAMING_THRESHOLD));
+    final RequestBody requestedBody = RequestBuilder.post(HttpUrl.parse(urlWithQuery))
+        .bodyContent(HttpMediaType.APPLICATION_JSON, map, null, (InputStream) null).build().body();
+    assertEquals(-1, requestedBody.contentLength());
+
+    String expected = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(map);
+    for (int i = 0; i < 2; i++) {
+      final Buffer buffer = new Buffer();
+      requestedBody.writeTo(buffer);
+      assertEquals(expected, buffer.readUtf8());
+    }
+  }
 }
@@ -42,12 +42,14 @@ import com.ibm.cloud.sdk.core.service.model.GenericModel;
 import com.ibm.cloud.sdk.core.test.BaseServiceUnitTest;
 import com.ibm.cloud.sdk.core.util.Clock;
 import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+import com.ibm.cloud.sdk.core.util.ResponseUtils;
 import io.reactivex.Single;
 import io.reactivex.functions.Consumer;
 import io.reactivex.schedulers.Schedulers;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
+import okio.Buffer;
 
 import org.apache.commons.io.IOUtils;
 import org.testng.annotations.BeforeMethod;
@@ -123,6 +125,11 @@ public class ResponseTest extends BaseServiceUnitTest {
       return createServiceCall(builder.build(), responseConverter);
     }
 
+    ServiceCall<Void> deleteMethod() {
+      RequestBuilder builder = RequestBuilder.delete(HttpUrl.parse(getServiceUrl() + "/v1/test"));
+      return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    }
+
     ServiceCall<Void> headMethod() {
       RequestBuilder builder = RequestBuilder.head(HttpUrl.parse(getServiceUrl() + "/v1/test"));
       return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
@@ -188,6 +195,13 @@ public class ResponseTest extends BaseServiceUnitTest {
           ResponseConverterUtils.getGenericObject(PassportModel.class, propertyName));
     }
 
+    ServiceCall<PassportModel> getPassportModelByResponseConverterUtilsGenericObjectAtPointer(
+        final String jsonPointer) {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getServiceUrl() + "/v1/test"));
+      return createServiceCall(builder.build(),
+          ResponseConverterUtils.getGenericObjectAtPointer(PassportModel.class, jsonPointer));
+    }
+
     ServiceCall<String> getStringRepresentationOfResponseBodyByResponseConverterUtilsGetString() {
       RequestBuilder builder = RequestBuilder.get(HttpUrl.get(getServiceUrl() + "/v1/test"));
       return createServiceCall(builder.build(), ResponseConverterUtils.getString());
@@ -894,6 +908,41 @@ public class ResponseTest extends BaseServiceUnitTest {
     assertEquals(response.getResult().getIssuer(), expectedPassportIssuer);
   }
 
+  @Test
+  public void testGenericObjectShouldReturnNullWhenResponseBodyMemberIsMissing() {
+    // Arrange
+    String responseBody = "{\"name\":\"Lorem\", \"tags\":[1, {\"a\": [2, 3]}], \"age\":\"45\"}";
+    server.enqueue(new MockResponse().setBody(responseBody));
+
+    // Act
+    Response<PassportModel> response = service.getPassportModelByResponseConverterUtilsGenericObject("passport")
+        .execute();
+
+    // Assert
+    assertNotNull(response);
+    assertNull(response.getResult());
+  }
+
+  @Test
+  public void testGenericObjectAtPointerShouldReturnNestedValue() {
+    // Arrange
+    String responseBody = "{\"skipped\": {\"passport\": {\"serial\": \"wrong\"}},"
+        + "\"result\": {\"a/b\": [{\"serial\": \"first\"}, {\"serial\": \"AB12345\", \"issuer\": \"Office\"}]}}";
+    server.enqueue(new MockResponse().setBody(responseBody));
+    server.enqueue(new MockResponse().setBody(responseBody));
+
+    // Act
+    Response<PassportModel> response = service
+        .getPassportModelByResponseConverterUtilsGenericObjectAtPointer("/result/a~1b/1").execute();
+    Response<PassportModel> missing = service
+        .getPassportModelByResponseConverterUtilsGenericObjectAtPointer("/result/a~1b/2").execute();
+
+    // Assert
+    assertEquals(response.getResult().getSerial(), "AB12345");
+    assertEquals(response.getResult().getIssuer(), "Office");
+    assertNull(missing.getResult());
+  }
+
   @Test
   public void testGetResponseBodyAsStringShouldReturnStringRepresentationOfResponseBody() {
     // Arrange
@@ -933,4 +982,38 @@ public class ResponseTest extends BaseServiceUnitTest {
     assertEquals(response.getResult(), responseBody);
   }
 
+  @Test
+  public void testGetVoidShouldKeepConnectionForSmallBody() throws Exception {
+    server.enqueue(new MockResponse().setBody("{\"deleted\": true}"));
+    server.enqueue(new MockResponse());
+
+    assertNull(service.deleteMethod().execute().getResult());
+    service.deleteMethod().execute();
+
+    assertEquals(server.takeRequest().getSequenceNumber(), 0);
+    // The discarded body left the connection reusable.
+    assertEquals(server.takeRequest().getSequenceNumber(), 1);
+  }
+
+  @Test
+  public void testGetVoidShouldAbandonLargeBody() throws Exception {
+    long savedMax = ResponseUtils.getMaxDiscardSize();
+    ResponseUtils.setMaxDiscardSize(1024);
+    try {
+      Buffer body = new Buffer().write(new byte[256 * 1024]);
+      server.enqueue(new MockResponse().setBody(body).throttleBody(1024, 1, TimeUnit.SECONDS));
+      server.enqueue(new MockResponse());
+
+      long start = System.nanoTime();
+      assertNull(service.deleteMethod().execute().getResult());
+      assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+      service.deleteMethod().execute();
+
+      server.takeRequest();
+      // The oversized body was abandoned along with its connection.
+      assertEquals(server.takeRequest().getSequenceNumber(), 0);
+    } finally {
+      ResponseUtils.setMaxDiscardSize(savedMax);
+    }
+  }
 }
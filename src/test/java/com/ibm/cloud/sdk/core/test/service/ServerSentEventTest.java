@@ -0,0 +1,249 @@
+/**
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.sdk.core.test.service;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.sdk.core.http.HttpHeaders;
+import com.ibm.cloud.sdk.core.http.HttpMediaType;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.http.ServerSentEvent;
+import com.ibm.cloud.sdk.core.http.ServerSentEventCallback;
+import com.ibm.cloud.sdk.core.http.ServerSentEventReader;
+import com.ibm.cloud.sdk.core.http.ServerSentEventServiceCall;
+import com.ibm.cloud.sdk.core.security.Authenticator;
+import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
+import com.ibm.cloud.sdk.core.service.BaseService;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
+import com.ibm.cloud.sdk.core.test.BaseServiceUnitTest;
+import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * Unit tests for "text/event-stream" (Server-Sent Events) responses.
+ */
+public class ServerSentEventTest extends BaseServiceUnitTest {
+
+  public static class Token extends GenericModel {
+    String text;
+    Integer index;
+  }
+
+  public class TestService extends BaseService {
+
+    private static final String SERVICE_NAME = "test";
+
+    TestService(Authenticator auth) {
+      super(SERVICE_NAME, auth);
+    }
+
+    ServerSentEventServiceCall<String> streamStrings() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getServiceUrl() + "/v1/stream"));
+      return createServerSentEventServiceCall(builder.build(), ResponseConverterUtils.getServerSentEvents());
+    }
+
+    ServerSentEventServiceCall<Token> streamTokens() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getServiceUrl() + "/v1/stream"));
+      return createServerSentEventServiceCall(builder.build(),
+          ResponseConverterUtils.<Token>getServerSentEvents(Token.class));
+    }
+  }
+
+  private TestService service;
+
+  @Override
+  @BeforeMethod
+  public void setUp() throws Exception {
+    super.setUp();
+    service = new TestService(new NoAuthAuthenticator());
+    service.setServiceUrl(getMockWebServerUrl());
+  }
+
+  private static MockResponse eventStreamResponse(String body) {
+    return new MockResponse()
+        .addHeader(HttpHeaders.CONTENT_TYPE, HttpMediaType.TEXT_EVENT_STREAM)
+        .setBody(body);
+  }
+
+  private static List<ServerSentEvent<String>> parse(String body) {
+    List<ServerSentEvent<String>> events = new ArrayList<>();
+    ServerSentEventReader<String> reader = new ServerSentEventReader<>(new Buffer().writeUtf8(body));
+    while (reader.hasNext()) {
+      events.add(reader.next());
+    }
+    return events;
+  }
+
+  @Test
+  public void testParseFields() {
+    List<ServerSentEvent<String>> events = parse(
+        ": keep-alive\n"
+        + "data: first\n"
+        + "\n"
+        + "event: update\n"
+        + "id: 42\n"
+        + "retry: 3000\n"
+        + "data:line1\n"
+        + "data: line2\n"
+        + "\n"
+        + "data\n"
+        + "\n"
+        + "unknown: ignored\n"
+        + "\n");
+
+    assertEquals(events.size(), 3);
+    assertEquals(events.get(0).getEvent(), ServerSentEvent.DEFAULT_EVENT);
+    assertEquals(events.get(0).getData(), "first");
+    assertNull(events.get(0).getId());
+    assertNull(events.get(0).getRetry());
+
+    assertEquals(events.get(1).getEvent(), "update");
+    assertEquals(events.get(1).getId(), "42");
+    assertEquals(events.get(1).getRetry(), Long.valueOf(3000));
+    assertEquals(events.get(1).getData(), "line1\nline2");
+
+    // The last event id carries over; the event type does not.
+    assertEquals(events.get(2).getEvent(), ServerSentEvent.DEFAULT_EVENT);
+    assertEquals(events.get(2).getId(), "42");
+    assertEquals(events.get(2).getData(), "");
+  }
+
+  @Test
+  public void testParseLineTerminators() {
+    List<ServerSentEvent<String>> events = parse("\uFEFFdata: a\r\n\r\ndata: b\r\rdata: c\n\ndata: incomplete");
+    assertEquals(events.size(), 3);
+    assertEquals(events.get(0).getData(), "a");
+    assertEquals(events.get(1).getData(), "b");
+    assertEquals(events.get(2).getData(), "c");
+  }
+
+  @Test
+  public void testExecuteIterator() throws Exception {
+    server.enqueue(eventStreamResponse("data: one\n\ndata: two\n\n"));
+
+    ServerSentEventReader<String> reader = service.streamStrings().execute().getResult();
+    assertTrue(reader.hasNext());
+    assertEquals(reader.next().getData(), "one");
+    assertTrue(reader.hasNext());
+    assertEquals(reader.next().getData(), "two");
+    assertFalse(reader.hasNext());
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getHeader(HttpHeaders.ACCEPT), HttpMediaType.TEXT_EVENT_STREAM);
+  }
+
+  @Test
+  public void testDecodedData() {
+    server.enqueue(eventStreamResponse(
+        "data: {\"text\": \"Hello\", \"index\": 0}\n\n"
+        + "data: {\"text\": \" world\", \"index\": 1}\n\n"));
+
+    ServerSentEventReader<Token> reader = service.streamTokens().execute().getResult();
+    ServerSentEvent<Token> event = reader.next();
+    assertEquals(event.getData().text, "Hello");
+    assertEquals(event.getData().index, Integer.valueOf(0));
+    assertEquals(event.getRawData(), "{\"text\": \"Hello\", \"index\": 0}");
+    assertEquals(reader.next().getData().text, " world");
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void testStreamCallback() throws Exception {
+    server.enqueue(eventStreamResponse("data: one\n\ndata: two\n\ndata: three\n\n"));
+
+    final List<String> received = new ArrayList<>();
+    final List<Exception> failures = new ArrayList<>();
+    final CountDownLatch done = new CountDownLatch(1);
+    service.streamStrings().stream(new ServerSentEventCallback<String>() {
+      @Override
+      public void onEvent(ServerSentEvent<String> event) {
+        received.add(event.getData());
+      }
+
+      @Override
+      public void onComplete() {
+        done.countDown();
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        failures.add(e);
+        done.countDown();
+      }
+    });
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(failures.isEmpty());
+    assertEquals(received.size(), 3);
+    assertEquals(received.get(2), "three");
+  }
+
+  @Test
+  public void testStreamCallbackError() throws Exception {
+    server.enqueue(errorResponse(404, "{\"error\": \"not found\"}"));
+
+    final List<Exception> failures = new ArrayList<>();
+    final CountDownLatch done = new CountDownLatch(1);
+    service.streamStrings().stream(new ServerSentEventCallback<String>() {
+      @Override
+      public void onEvent(ServerSentEvent<String> event) {
+      }
+
+      @Override
+      public void onComplete() {
+        done.countDown();
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        failures.add(e);
+        done.countDown();
+      }
+    });
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(failures.size(), 1);
+    assertTrue(failures.get(0) instanceof NotFoundException);
+  }
+
+  @Test
+  public void testReactiveStream() {
+    server.enqueue(eventStreamResponse("data: one\n\ndata: two\n\ndata: three\n\n"));
+
+    List<ServerSentEvent<String>> events = service.streamStrings().reactiveStream().toList().blockingGet();
+    assertEquals(events.size(), 3);
+    assertEquals(events.get(0).getData(), "one");
+
+    // Only the requested number of events is consumed.
+    server.enqueue(eventStreamResponse("data: one\n\ndata: two\n\ndata: three\n\n"));
+    ServerSentEvent<String> first = service.streamStrings().reactiveStream().blockingFirst();
+    assertEquals(first.getData(), "one");
+  }
+}
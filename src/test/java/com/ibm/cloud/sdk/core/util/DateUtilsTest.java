@@ -129,6 +129,38 @@ public class DateUtilsTest {
     _testDateTime("Fri Aug 6 13:15:55 2021", "2021-08-06T13:15:55.000Z");
   }
 
+  @Test
+  public void testDateTimeEdgeCases() {
+    // Values handled by the RFC 3339 fast path.
+    _testDateTime("2024-02-29T23:59:59.999Z",     "2024-02-29T23:59:59.999Z");
+    _testDateTime("1963-05-01T00:00:00.5-05:00",  "1963-05-01T05:00:00.500Z");
+    _testDateTime("0001-01-01T00:00:00Z",         "0001-01-01T00:00:00.000Z");
+    _testDateTime("9999-12-31T23:59:59.999999999+18:00", "9999-12-31T05:59:59.999Z");
+    _testDateTime("2016-06-20T04:25:16.218+05:45", "2016-06-19T22:40:16.218Z");
+
+    // Values with out-of-range fields are resolved by the formatters.
+    _testDateTime("2021-02-29T12:00:00Z",         "2021-02-28T12:00:00.000Z");
+
+    // Milliseconds since epoch time.
+    _testDateTime("1584024732866",                "2020-03-12T14:52:12.866Z");
+  }
+
+  @Test(expectedExceptions = DateTimeException.class)
+  public void testDateTimeErrorFraction() {
+    // Without a tz-offset, only a 3-digit fractional part is supported.
+    _testDateTime("2016-06-20T04:25:16.2", "");
+  }
+
+  @Test(expectedExceptions = DateTimeException.class)
+  public void testDateTimeErrorOffset() {
+    _testDateTime("2016-06-20T04:25:16+19:00", "");
+  }
+
+  @Test(expectedExceptions = DateTimeException.class)
+  public void testDateTimeErrorDialog() {
+    _testDateTime("2016-06-20 04:25", "");
+  }
+
   @Test(expectedExceptions = DateTimeException.class)
   public void testDateTimeError1() {
     _testDateTime("2016-06-20T04:25:16.218+000", "");
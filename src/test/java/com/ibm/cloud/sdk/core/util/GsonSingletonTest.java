@@ -1,5 +1,5 @@
 /**
- * (C) Copyright IBM Corp. 2015, 2024.
+ * (C) Copyright IBM Corp. 2015, 2026.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -16,10 +16,13 @@ package com.ibm.cloud.sdk.core.util;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,8 +31,14 @@ import org.testng.annotations.Test;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
 import com.google.gson.internal.LazilyParsedNumber;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.cloud.sdk.core.service.model.DynamicModel;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
 
 /**
  * Test the {@link GsonSingleton} class used to transform from and to JSON.
@@ -41,6 +50,93 @@ public class GsonSingletonTest {
     public LazilyParsedNumber bar;
   }
 
+  public static class PointModel {
+    int x;
+    int y;
+  }
+
+  public static class DynamicPointModel extends DynamicModel<Object> {
+    @SerializedName("x")
+    Integer x;
+    boolean generated;
+
+    public DynamicPointModel() {
+      super(new TypeToken<Object>() { });
+    }
+  }
+
+  public static class DiscriminatedPointModel extends GenericModel {
+    protected static String discriminatorPropertyName = "kind";
+    protected static Map<String, Class<?>> discriminatorMapping = new HashMap<>();
+    static {
+      discriminatorMapping.put("point", DiscriminatedPointModel.class);
+    }
+
+    String kind;
+    boolean generated;
+  }
+
+  /**
+   * A model type adapter factory that is registered through
+   * META-INF/services/com.ibm.cloud.sdk.core.util.ModelTypeAdapterFactory.
+   */
+  public static class PointModelTypeAdapterFactory implements ModelTypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      if (type.getRawType() == DynamicPointModel.class) {
+        return (TypeAdapter<T>) new TypeAdapter<DynamicPointModel>() {
+          @Override
+          public void write(JsonWriter out, DynamicPointModel value) throws IOException {
+            out.value("dynamic:" + value.x);
+          }
+
+          @Override
+          public DynamicPointModel read(JsonReader in) throws IOException {
+            in.skipValue();
+            DynamicPointModel point = new DynamicPointModel();
+            point.generated = true;
+            return point;
+          }
+        }.nullSafe();
+      }
+      if (type.getRawType() == DiscriminatedPointModel.class) {
+        return (TypeAdapter<T>) new TypeAdapter<DiscriminatedPointModel>() {
+          @Override
+          public void write(JsonWriter out, DiscriminatedPointModel value) throws IOException {
+            out.value("discriminated:" + value.kind);
+          }
+
+          @Override
+          public DiscriminatedPointModel read(JsonReader in) throws IOException {
+            in.skipValue();
+            DiscriminatedPointModel point = new DiscriminatedPointModel();
+            point.generated = true;
+            return point;
+          }
+        }.nullSafe();
+      }
+      if (type.getRawType() != PointModel.class) {
+        return null;
+      }
+      return (TypeAdapter<T>) new TypeAdapter<PointModel>() {
+        @Override
+        public void write(JsonWriter out, PointModel value) throws IOException {
+          out.value(value.x + "," + value.y);
+        }
+
+        @Override
+        public PointModel read(JsonReader in) throws IOException {
+          String[] parts = in.nextString().split(",");
+          PointModel point = new PointModel();
+          point.x = Integer.parseInt(parts[0]);
+          point.y = Integer.parseInt(parts[1]);
+          return point;
+        }
+      }.nullSafe();
+    }
+  }
+
   /** The list type. */
   private Type listType = new TypeToken<ArrayList<Date>>() { }.getType();
   private Type modelType = new TypeToken<FooModel>() { }.getType();
@@ -115,4 +211,33 @@ public class GsonSingletonTest {
     assertNotNull(serializedMap);
     assertEquals(serializedMap, jsonString);
   }
+
+  @Test
+  public void testModelTypeAdapterFactory() {
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+    PointModel point = gson.fromJson("\"3,4\"", PointModel.class);
+    assertEquals(point.x, 3);
+    assertEquals(point.y, 4);
+    assertEquals(gson.toJson(point), "\"3,4\"");
+    assertEquals(GsonSingleton.getGsonWithSerializeNulls().toJson(point), "\"3,4\"");
+  }
+
+  @Test
+  public void testModelTypeAdapterFactoryPrecedence() {
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+    // The discovered factory should be used rather than the SDK's DynamicModelTypeAdapterFactory.
+    DynamicPointModel dynamicPoint = gson.fromJson("{\"x\": 1}", DynamicPointModel.class);
+    assertTrue(dynamicPoint.generated);
+    dynamicPoint.x = 2;
+    assertEquals(gson.toJson(dynamicPoint), "\"dynamic:2\"");
+
+    // The discovered factory should be used rather than the SDK's DiscriminatorBasedTypeAdapterFactory.
+    DiscriminatedPointModel discriminatedPoint =
+        gson.fromJson("{\"kind\": \"point\"}", DiscriminatedPointModel.class);
+    assertTrue(discriminatedPoint.generated);
+    discriminatedPoint.kind = "point";
+    assertEquals(gson.toJson(discriminatedPoint), "\"discriminated:point\"");
+  }
 }